@@ -130,7 +130,8 @@ public interface MetadataBuilder {
 	 * this Jandex index already contains all entries for all classes.  No additional indexing will be
 	 * done in this case.
 	 * <p>
-	 * NOTE : Here for future expansion.  At the moment the passed Jandex index is not used.
+	 * At the moment the passed Jandex index is only used during scanning, to categorize the
+	 * discovered class files without reading them.
 	 *
 	 * @param jandexView The Jandex index to use.
 	 *
@@ -8,6 +8,8 @@ package org.hibernate.boot.archive.scan.internal;
 
 import org.hibernate.boot.archive.scan.spi.ScanParameters;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * @author Steve Ebersole
  */
@@ -15,8 +17,19 @@ public class StandardScanParameters implements ScanParameters {
 	/**
 	 * Singleton access
 	 */
-	public static final StandardScanParameters INSTANCE = new StandardScanParameters();
+	public static final StandardScanParameters INSTANCE = new StandardScanParameters( null );
+
+	private final IndexView jandexView;
+
+	/**
+	 * @param jandexView A prebuilt Jandex index used to categorize class files, or {@code null}
+	 */
+	public StandardScanParameters(IndexView jandexView) {
+		this.jandexView = jandexView;
+	}
 
-	private StandardScanParameters() {
+	@Override
+	public IndexView getJandexView() {
+		return jandexView;
 	}
 }
@@ -19,6 +19,8 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * @author Steve Ebersole
  */
@@ -33,9 +35,10 @@ public abstract class AbstractScannerImpl implements Scanner {
 	@Override
 	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
+		final IndexView jandexView = parameters == null ? null : parameters.getJandexView();
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
+			final ArchiveContext context = new ArchiveContextImpl( false, collector, jandexView );
 			for ( URL url : environment.getNonRootUrls() ) {
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
 				descriptor.visitArchive( context );
@@ -43,7 +46,7 @@ public abstract class AbstractScannerImpl implements Scanner {
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
+			final ArchiveContext context = new ArchiveContextImpl( true, collector, jandexView );
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
 		}
@@ -113,9 +116,13 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector, IndexView jandexView) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, jandexView );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
@@ -20,13 +20,18 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassSummary;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 /**
- * Defines handling and filtering for class file entries within an archive
+ * Defines handling and filtering for class file entries within an archive.
+ * <p>
+ * When a prebuilt Jandex index is available, classes it knows about are
+ * categorized from the index without reading their class file.
  *
  * @author Steve Ebersole
  */
@@ -41,15 +46,27 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final IndexView jandexView;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null );
+	}
+
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, IndexView jandexView) {
 		this.resultCollector = resultCollector;
+		this.jandexView = jandexView;
 	}
 
 	@Override
 	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
 
-		final ClassDescriptor classDescriptor = toClassDescriptor( entry );
+		ClassDescriptor classDescriptor = null;
+		if ( jandexView != null ) {
+			classDescriptor = toClassDescriptorFromIndex( entry );
+		}
+		if ( classDescriptor == null ) {
+			classDescriptor = toClassDescriptor( entry );
+		}
 
 		if ( classDescriptor.getCategorization() == ClassDescriptor.Categorization.OTHER ) {
 			return;
@@ -70,6 +87,28 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		}
 	}
 
+	private ClassDescriptor toClassDescriptorFromIndex(ArchiveEntry entry) {
+		final String nameWithinArchive = entry.getNameWithinArchive();
+		final String className = nameWithinArchive
+				.substring( 0, nameWithinArchive.length() - ".class".length() )
+				.replace( '/', '.' );
+		final ClassInfo classInfo = jandexView.getClassByName( DotName.createSimple( className ) );
+		if ( classInfo == null ) {
+			return null;
+		}
+
+		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+
+		if ( isModel( classInfo ) ) {
+			categorization = ClassDescriptor.Categorization.MODEL;
+		}
+		else if ( classInfo.hasAnnotation( CONVERTER ) ) {
+			categorization = ClassDescriptor.Categorization.CONVERTER;
+		}
+
+		return new ClassDescriptorImpl( className, categorization, entry.getStreamAccess() );
+	}
+
 	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
 		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
 
@@ -95,4 +134,13 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		}
 		return false;
 	}
+
+	private boolean isModel(ClassInfo classInfo) {
+		for ( DotName model : MODELS ) {
+			if ( classInfo.hasAnnotation( model ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * A "parameter object" passed to {@link Scanner#scan} to help support future
  * changes in terms of needing to pass additional stuff to scanning.
@@ -13,4 +15,15 @@ package org.hibernate.boot.archive.scan.spi;
  * @author Steve Ebersole
  */
 public interface ScanParameters {
+	/**
+	 * A prebuilt Jandex index covering (some of) the classes to be scanned, if any.
+	 * <p>
+	 * Class files of classes known to this index are categorized using the index,
+	 * without reading the class file.  Other class files are indexed individually.
+	 *
+	 * @return The Jandex index, or {@code null}
+	 */
+	default IndexView getJandexView() {
+		return null;
+	}
 }
@@ -75,7 +75,9 @@ public class ScanningCoordinator {
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
-				StandardScanParameters.INSTANCE
+				bootstrapContext.getJandexView() == null
+						? StandardScanParameters.INSTANCE
+						: new StandardScanParameters( bootstrapContext.getJandexView() )
 		);
 
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
@@ -177,6 +177,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isDelayPersisterInitializationEnabled() {
+		return delegate.isDelayPersisterInitializationEnabled();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -242,6 +247,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public int getQueryCacheChunkSize() {
+		return delegate.getQueryCacheChunkSize();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -302,6 +312,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -377,6 +392,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isCriteriaCopyTreeEnabled();
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return delegate.isCriteriaPlanCacheEnabled();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return delegate.getJpaCompliance();
@@ -412,6 +432,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public boolean isStatisticsLatencyHistogramsEnabled() {
+		return delegate.isStatisticsLatencyHistogramsEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
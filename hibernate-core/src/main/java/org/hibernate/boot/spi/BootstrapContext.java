@@ -128,7 +128,8 @@ public interface BootstrapContext {
 	 * Access to the Jandex index passed by call to
 	 * {@link org.hibernate.boot.MetadataBuilder#applyIndexView(IndexView)}, if any.
 	 * <p>
-	 * Note that Jandex is currently not used.  See https://github.com/hibernate/hibernate-orm/wiki/Roadmap7.0
+	 * Note that Jandex is currently only used during scanning, to categorize discovered class files.
+	 * See https://github.com/hibernate/hibernate-orm/wiki/Roadmap7.0
 	 *
 	 * @return The Jandex index
 	 */
@@ -140,6 +140,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	/**
+	 * Should the SQL, mutation coordinators and loaders of the persisters be
+	 * built on first use, rather than when the factory is built?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DELAY_PERSISTER_INITIALIZATION
+	 */
+	default boolean isDelayPersisterInitializationEnabled() {
+		return false;
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -162,6 +172,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isQueryCacheEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_CHUNK_SIZE
+	 */
+	default int getQueryCacheChunkSize() {
+		return 0;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -186,6 +203,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of idle prepared statements a session keeps open for reuse.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -229,6 +255,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 */
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
 	JpaCompliance getJpaCompliance();
 
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
@@ -265,6 +298,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 */
+	default boolean isStatisticsLatencyHistogramsEnabled() {
+		return false;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
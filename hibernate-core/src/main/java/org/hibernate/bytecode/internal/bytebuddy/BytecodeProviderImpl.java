@@ -15,10 +15,12 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import jakarta.persistence.Entity;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
@@ -53,6 +55,7 @@ import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
@@ -67,6 +70,7 @@ import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.pool.TypePool;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
 
@@ -1317,6 +1321,29 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		return new EnhancerImpl( enhancementContext, byteBuddyState );
 	}
 
+	@Override
+	public Map<String, byte[]> generateBuildTimeProxyClasses(String entityClassName, ClassLoader classLoader) {
+		final TypePool typePool = TypePool.Default.of( ClassFileLocator.ForClassLoader.of( classLoader ) );
+		final TypePool.Resolution resolution = typePool.describe( entityClassName );
+		if ( !resolution.isResolved() ) {
+			return Collections.emptyMap();
+		}
+
+		final TypeDescription entityClass = resolution.resolve();
+		if ( entityClass.isInterface()
+				|| entityClass.isFinal()
+				|| !entityClass.getDeclaredAnnotations().isAnnotationPresent( Entity.class ) ) {
+			return Collections.emptyMap();
+		}
+
+		final DynamicType.Unloaded<?> proxy = byteBuddyProxyHelper.buildUnloadedBuildTimeProxy( typePool, entityClass );
+		final Map<String, byte[]> classes = new HashMap<>();
+		for ( Map.Entry<TypeDescription, byte[]> entry : proxy.getAllTypes().entrySet() ) {
+			classes.put( entry.getKey().getName(), entry.getValue() );
+		}
+		return classes;
+	}
+
 	@Override
 	public void resetCaches() {
 		byteBuddyState.clearState();
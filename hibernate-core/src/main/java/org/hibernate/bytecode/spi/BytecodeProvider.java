@@ -6,8 +6,10 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.util.Collections;
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
@@ -65,6 +67,23 @@ public interface BytecodeProvider extends Service {
 	 */
 	Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Generates, ahead of time, the lazy-loading proxy class for the given entity class.
+	 * <p>
+	 * Build tooling writes the generated classes next to the entity class.  At runtime,
+	 * a proxy class found this way is used instead of generating one.
+	 *
+	 * @param entityClassName The name of the entity class.
+	 * @param classLoader A class loader able to locate the class files of the entity class and its supertypes.
+	 *
+	 * @return The generated class files keyed by class name, or an empty map if the class is not
+	 * an entity that can be proxied or the provider does not support this.
+	 */
+	@Incubating
+	default Map<String, byte[]> generateBuildTimeProxyClasses(String entityClassName, ClassLoader classLoader) {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
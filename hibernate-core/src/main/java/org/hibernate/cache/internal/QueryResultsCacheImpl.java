@@ -14,6 +14,7 @@ import java.util.Set;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsChunk;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -137,6 +138,70 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return deepCopy( cacheItem.results );
 	}
 
+	@Override
+	public boolean putChunk(
+			final QueryKey key,
+			final int chunkIndex,
+			final List<?> chunk,
+			final boolean lastChunk,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		if ( DEBUG_ENABLED ) {
+			L2CACHE_LOGGER.debugf( "Caching query results chunk in region: %s; chunk=%s; timestamp=%s", cacheRegion.getName(), chunkIndex, session.getCacheTransactionSynchronization().getCachingTimestamp() );
+		}
+
+		final ChunkItem chunkItem = new ChunkItem(
+				session.getCacheTransactionSynchronization().getCachingTimestamp(),
+				deepCopy( chunk ),
+				lastChunk
+		);
+
+		try {
+			session.getEventListenerManager().cachePutStart();
+			cacheRegion.putIntoCache( new ChunkKey( key, chunkIndex ), chunkItem, session );
+		}
+		finally {
+			session.getEventListenerManager().cachePutEnd();
+		}
+
+		return true;
+	}
+
+	@Override
+	public QueryResultsChunk getChunk(
+			final QueryKey key,
+			final int chunkIndex,
+			final Set<String> spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		if ( DEBUG_ENABLED ) {
+			L2CACHE_LOGGER.debugf( "Checking cached query results chunk in region: %s; chunk=%s", cacheRegion.getName(), chunkIndex );
+		}
+
+		ChunkItem chunkItem = null;
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			chunkItem = (ChunkItem) cacheRegion.getFromCache( new ChunkKey( key, chunkIndex ), session );
+		}
+		finally {
+			session.getEventListenerManager().cacheGetEnd( chunkItem != null );
+		}
+
+		if ( chunkItem == null ) {
+			if ( DEBUG_ENABLED ) {
+				L2CACHE_LOGGER.debug( "Query results chunk was not found in cache" );
+			}
+			return null;
+		}
+
+		if ( !timestampsCache.isUpToDate( spaces, chunkItem.timestamp, session ) ) {
+			if ( DEBUG_ENABLED ) {
+				L2CACHE_LOGGER.debug( "Cached query results chunk was not up-to-date" );
+			}
+			return null;
+		}
+
+		return new QueryResultsChunk( deepCopy( chunkItem.results ), chunkItem.last, chunkItem.timestamp );
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		try {
@@ -163,4 +228,52 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			this.results = results;
 		}
 	}
+
+	public static class ChunkItem implements Serializable {
+		private final long timestamp;
+		private final List<?> results;
+		private final boolean last;
+
+		ChunkItem(long timestamp, List<?> results, boolean last) {
+			this.timestamp = timestamp;
+			this.results = results;
+			this.last = last;
+		}
+	}
+
+	/**
+	 * The cache key of a chunk of query results, made of the key of the query and
+	 * the index of the chunk.
+	 */
+	public static class ChunkKey implements Serializable {
+		private final QueryKey queryKey;
+		private final int chunkIndex;
+
+		ChunkKey(QueryKey queryKey, int chunkIndex) {
+			this.queryKey = queryKey;
+			this.chunkIndex = chunkIndex;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			if ( !( other instanceof ChunkKey ) ) {
+				return false;
+			}
+			final ChunkKey that = (ChunkKey) other;
+			return chunkIndex == that.chunkIndex && queryKey.equals( that.queryKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * queryKey.hashCode() + chunkIndex;
+		}
+
+		@Override
+		public String toString() {
+			return "ChunkKey(" + chunkIndex + ')';
+		}
+	}
 }
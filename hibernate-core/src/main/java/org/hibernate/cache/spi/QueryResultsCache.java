@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -101,6 +102,64 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Store a chunk of a result list of a query with the given {@link QueryKey}
+	 * in the query result cache, when query results are
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_CHUNK_SIZE
+	 * cached in chunks}.  Each chunk is stored under its own cache key, which is
+	 * distinct from the key of a result list stored by {@link #put}.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param chunkIndex The index of the chunk in the result list
+	 * @param chunk The results of the chunk
+	 * @param lastChunk Whether this is the last chunk of the result list
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default boolean putChunk(
+			QueryKey key,
+			int chunkIndex,
+			List<?> chunk,
+			boolean lastChunk,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return false;
+	}
+
+	/**
+	 * Attempt to retrieve a chunk of a cached query result list for the given
+	 * {@link QueryKey}, and then {@linkplain TimestampsCache#isUpToDate check}
+	 * if the chunk, if any, is stale.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param chunkIndex The index of the chunk in the result list
+	 * @param spaces The query spaces which affect the results of the
+	 *               query (used to check if cached results are stale)
+	 * @param session The originating session
+	 *
+	 * @return The cached chunk; may be null if there is no such chunk, or
+	 *         if it is stale.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default QueryResultsChunk getChunk(
+			QueryKey key,
+			int chunkIndex,
+			Set<String> spaces,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return null;
+	}
+
 	/**
 	 * Clear all items from this query result cache.
 	 *
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A chunk of a query result list, as retrieved from the query result cache, when
+ * query results are {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_CHUNK_SIZE
+ * cached in chunks}.
+ *
+ * @see QueryResultsCache#getChunk
+ *
+ * @since 6.2
+ */
+@Incubating
+public final class QueryResultsChunk {
+	private final List<?> results;
+	private final boolean last;
+	private final long timestamp;
+
+	public QueryResultsChunk(List<?> results, boolean last, long timestamp) {
+		this.results = results;
+		this.last = last;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * The results of the chunk.
+	 */
+	public List<?> getResults() {
+		return results;
+	}
+
+	/**
+	 * Whether this is the last chunk of the result list.
+	 */
+	public boolean isLast() {
+		return last;
+	}
+
+	/**
+	 * The caching timestamp of the chunk.  The chunks stored while executing a query
+	 * share the same timestamp, so a chunk with another timestamp than the first chunk
+	 * was stored by another execution, and does not belong to the same result list.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+}
@@ -1003,6 +1003,22 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Specifies the maximum number of idle JDBC prepared statements kept open for reuse
+	 * by a session, for as long as it holds its JDBC connection. Statements are evicted
+	 * in least recently used order, and are all closed before the connection is released.
+	 * <p>
+	 * This is mainly useful with JDBC drivers or connection pools which do not cache
+	 * prepared statements themselves. If {@code 0}, the default, statements are closed
+	 * as soon as they are released.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -1354,6 +1370,28 @@ public interface AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When set to a positive number, specifies that query results are stored in the
+	 * query cache as a sequence of chunks of (at most) the given number of rows, rather
+	 * than as a single entry holding the whole result list.
+	 * <p>
+	 * Each chunk is put in the cache as soon as it has been read from the database, and
+	 * is read from the cache only when the results reach it. So results which are
+	 * {@linkplain org.hibernate.query.SelectionQuery#scroll() scrolled} or
+	 * {@linkplain org.hibernate.query.SelectionQuery#stream() streamed} may be cached,
+	 * and results which are only partially read neither need to be held in memory nor
+	 * to be read from the cache in full.  If a chunk is missing or stale, the remaining
+	 * results are read from the database.
+	 * <p>
+	 * By default, query results are not chunked.
+	 *
+	 * @see #USE_QUERY_CACHE
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String QUERY_CACHE_CHUNK_SIZE = "hibernate.cache.query_cache_chunk_size";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -2085,6 +2123,48 @@ public interface AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * When enabled, the runtime structures of the
+	 * {@linkplain org.hibernate.persister.entity.EntityPersister entity} and
+	 * {@linkplain org.hibernate.persister.collection.CollectionPersister collection}
+	 * persisters, such as the insert, update and delete SQL and the collection
+	 * loaders, are only built the first time they are needed.
+	 * <p>
+	 * This reduces the startup time and memory footprint of applications which
+	 * only ever use a small part of a large domain model. The persisters
+	 * themselves are still created, and their mappings validated, up front.
+	 * <p>
+	 * By default, all persister structures are built when the
+	 * {@link org.hibernate.SessionFactory} is created.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isDelayPersisterInitializationEnabled()
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String DELAY_PERSISTER_INITIALIZATION = "hibernate.persister.delay_initialization";
+
+	/**
+	 * Specifies the number of threads used to create and initialize the
+	 * {@linkplain org.hibernate.persister.entity.EntityPersister entity} and
+	 * {@linkplain org.hibernate.persister.collection.CollectionPersister collection}
+	 * persisters when the {@link org.hibernate.SessionFactory} is built.
+	 * <p>
+	 * The default value is {@code 1}, meaning that persisters are created
+	 * sequentially on the bootstrapping thread. With a larger value, the
+	 * persisters, along with their SQL strings and loaders, are built
+	 * concurrently, which may substantially reduce the startup time of
+	 * applications with many entities. Persisters are always registered in
+	 * mapping order, so the resulting model is the same in either case.
+	 * <p>
+	 * Custom persister implementations must be safe to construct concurrently
+	 * for this setting to be used.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String PERSISTER_CREATION_PARALLELISM = "hibernate.persister.creation_parallelism";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -2294,6 +2374,24 @@ public interface AvailableSettings {
 	 */
 	String CRITERIA_COPY_TREE = "hibernate.criteria.copy_tree";
 
+	/**
+	 * When enabled, specifies that the {@linkplain org.hibernate.query.spi.SelectQueryPlan plan}
+	 * of a criteria query may be cached and shared with all other criteria queries which have the
+	 * same structure, that is, which differ at most in the values of their parameters.
+	 * <p>
+	 * The structure of a criteria query is determined each time it is executed, and the cached
+	 * plan never refers to the criteria objects passed by the application, which are thus still
+	 * free to be mutated and reused afterwards.
+	 * <p>
+	 * By default, the plan of a criteria query is built each time it is executed.
+	 *
+	 * @see #QUERY_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String CRITERIA_PLAN_CACHE_ENABLED = "hibernate.criteria.plan_cache_enabled";
+
 	/**
 	 * Specifies a default value for all {@link org.hibernate.jpa.spi.JpaCompliance}
 	 * flags. Each individual flag may still be overridden by explicitly specifying
@@ -2555,6 +2653,22 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * When enabled, along with {@linkplain #GENERATE_STATISTICS statistics}, the
+	 * latencies of query executions, flushes, second-level cache lookups and JDBC
+	 * connection acquisitions are recorded in {@linkplain org.hibernate.stat.LatencyHistogram
+	 * histograms}, giving the latencies at any percentile.
+	 * <p>
+	 * Disabled by default, since it requires measuring the durations of operations
+	 * which are otherwise only counted.
+	 *
+	 * @see org.hibernate.stat.Statistics#getQueryExecutionLatencyHistogram()
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	String STATISTICS_LATENCY_HISTOGRAMS = "hibernate.statistics.latency_histograms";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
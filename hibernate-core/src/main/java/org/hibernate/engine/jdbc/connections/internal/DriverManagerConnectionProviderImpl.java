@@ -15,11 +15,15 @@ import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -43,9 +47,16 @@ import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MES
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
  * <p>
- * IMPL NOTE : not intended for production use!
+ * The pool hands out at most {@value AvailableSettings#POOL_SIZE} connections.  When they are all in use,
+ * requests wait, in order, for at most {@value #ACQUISITION_TIMEOUT} milliseconds.  The time spent waiting
+ * is part of the connection acquisition time reported to the {@link org.hibernate.stat.Statistics}.  Idle
+ * connections are validated, and connections held longer than {@value #LEAK_DETECTION_THRESHOLD}
+ * milliseconds reported, by a background thread every {@value #VALIDATION_INTERVAL} seconds.
+ * <p>
+ * IMPL NOTE : a dedicated connection pool offers more features and more monitoring, and remains
+ * the recommended choice for production use.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -63,6 +74,10 @@ public class DriverManagerConnectionProviderImpl
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.MILLISECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 
 	private volatile PoolState state;
 
@@ -101,6 +116,12 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 )
+		);
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -295,6 +316,34 @@ public class DriverManagerConnectionProviderImpl
 		}
 	}
 
+	/**
+	 * The number of connections currently handed out by the pool.
+	 */
+	public int getActiveConnectionCount() {
+		return state.pool.getActiveCount();
+	}
+
+	/**
+	 * The number of open connections available in the pool.
+	 */
+	public int getIdleConnectionCount() {
+		return state.pool.getIdleCount();
+	}
+
+	/**
+	 * An estimate of the number of threads waiting for a connection.
+	 */
+	public int getPendingConnectionRequestCount() {
+		return state.pool.getPendingCount();
+	}
+
+	/**
+	 * The number of connection requests which failed because no connection became available in time.
+	 */
+	public long getConnectionAcquisitionTimeoutCount() {
+		return state.pool.getAcquisitionTimeoutCount();
+	}
+
 	protected void validateConnectionsReturned() {
 		int allocationCount = state.pool.allConnections.size() - state.pool.availableConnections.size();
 		if ( allocationCount != 0 ) {
@@ -343,13 +392,22 @@ public class DriverManagerConnectionProviderImpl
 	public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// used as a stack, so that the most recently returned connection, which is the most
+		// likely to be "warm", is reused first
+		private final ConcurrentLinkedDeque<Connection> availableConnections = new ConcurrentLinkedDeque<>();
+		// the connections currently handed out by the pool
+		private final ConcurrentHashMap<Connection, Lease> leases = new ConcurrentHashMap<>();
+		// a permit per connection which may be handed out, fair so that waiting threads are served in order
+		private final Semaphore permits;
+		private final LongAdder acquisitionTimeoutCount = new LongAdder();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -363,11 +421,17 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			leakDetectionThreshold = builder.leakDetectionThreshold;
+			permits = new Semaphore( maxSize, true );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			validateAvailableConnections();
+			detectLeaks();
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -389,10 +453,63 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		/**
+		 * Validates the idle connections, so that broken connections are rather
+		 * discarded by the validation thread than when they are requested.
+		 */
+		private void validateAvailableConnections() {
+			if ( connectionValidator == ConnectionValidator.ALWAYS_VALID ) {
+				return;
+			}
+			for ( Connection connection : availableConnections ) {
+				// skip the connections handed out in the meantime
+				if ( availableConnections.removeLastOccurrence( connection ) ) {
+					Exception t = null;
+					try {
+						if ( connectionValidator.isValid( connection ) ) {
+							availableConnections.offerLast( connection );
+							continue;
+						}
+					}
+					catch (SQLException ex) {
+						t = ex;
+					}
+					CONNECTIONS_LOGGER.debug( "Connection validation failed. Closing pooled connection", t );
+					closeConnection( connection, t );
+				}
+			}
+		}
+
+		private void detectLeaks() {
+			if ( leakDetectionThreshold <= 0 ) {
+				return;
+			}
+			final long now = System.nanoTime();
+			for ( Lease lease : leases.values() ) {
+				if ( !lease.reported
+						&& now - lease.startTime > TimeUnit.MILLISECONDS.toNanos( leakDetectionThreshold ) ) {
+					lease.reported = true;
+					CONNECTIONS_LOGGER.warnf(
+							lease.stackTrace,
+							"Connection leak detected: a connection was obtained from the pool %s ms ago and has not been released",
+							TimeUnit.NANOSECONDS.toMillis( now - lease.startTime )
+					);
+				}
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
-			final Connection connection = releaseConnection( conn );
-			if ( connection != null ) {
-				availableConnections.offer( connection );
+			final Lease lease = leases.remove( conn );
+			try {
+				final Connection connection = releaseConnection( conn );
+				if ( connection != null ) {
+					availableConnections.offerFirst( connection );
+				}
+			}
+			finally {
+				if ( lease != null ) {
+					permits.release();
+				}
 			}
 		}
 
@@ -414,22 +531,50 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
+			acquirePermit();
+			return pollWithPermit();
+		}
+
+		/**
+		 * Hands out a connection for a permit already {@linkplain #acquirePermit() acquired},
+		 * giving the permit back if no connection can be obtained.
+		 */
+		private Connection pollWithPermit() {
+			try {
+				Connection conn;
+				do {
+					conn = availableConnections.pollFirst();
+					if ( conn == null ) {
+						// the permit guarantees that the pool does not grow beyond its maximum size
+						conn = connectionCreator.createConnection();
+						allConnections.add( conn );
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+					conn = prepareConnection( conn );
+				} while ( conn == null );
+				leases.put( conn, new Lease( leakDetectionThreshold > 0 ) );
+				return conn;
+			}
+			catch (RuntimeException | Error e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		private void acquirePermit() {
+			try {
+				// the timed tryAcquire() honors the fairness of the semaphore, even without a timeout,
+				// so that a request does not barge ahead of the requests already waiting for a connection
+				if ( permits.tryAcquire( Math.max( acquisitionTimeout, 0 ), TimeUnit.MILLISECONDS ) ) {
+					return;
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool", e );
+			}
+			acquisitionTimeoutCount.increment();
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection is currently available" );
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -481,9 +626,37 @@ public class DriverManagerConnectionProviderImpl
 			return availableConnections.size();
 		}
 
+		/**
+		 * The number of connections currently handed out by the pool.
+		 */
+		public int getActiveCount() {
+			return leases.size();
+		}
+
+		/**
+		 * The number of open connections available in the pool.
+		 */
+		public int getIdleCount() {
+			return availableConnections.size();
+		}
+
+		/**
+		 * An estimate of the number of threads waiting for a connection.
+		 */
+		public int getPendingCount() {
+			return permits.getQueueLength();
+		}
+
+		/**
+		 * The number of requests which failed because no connection became available in time.
+		 */
+		public long getAcquisitionTimeoutCount() {
+			return acquisitionTimeoutCount.sum();
+		}
+
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
+				Connection connection = availableConnections.pollLast();
 				try {
 					if ( connection != null ) {
 						connection.close();
@@ -513,6 +686,23 @@ public class DriverManagerConnectionProviderImpl
 			for ( Connection connection : allConnections ) {
 				closeConnection( connection, null );
 			}
+			// the connections still handed out are closed, so their permits are given back
+			for ( Connection connection : leases.keySet() ) {
+				if ( leases.remove( connection ) != null ) {
+					permits.release();
+				}
+			}
+		}
+
+		private static class Lease {
+			private final long startTime = System.nanoTime();
+			// where the connection was obtained, when leaks are detected
+			private final Exception stackTrace;
+			private volatile boolean reported;
+
+			private Lease(boolean captureStackTrace) {
+				stackTrace = captureStackTrace ? new Exception( "Connection obtained here" ) : null;
+			}
 		}
 
 		public static class Builder {
@@ -522,6 +712,8 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -543,6 +735,24 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * The maximum number of milliseconds to wait for a connection when all the connections
+			 * of the pool are in use, {@code 0} to fail immediately.
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * The number of milliseconds after which a connection which has not been returned to
+			 * the pool is reported as a possible leak, {@code 0} to disable leak detection.
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -640,9 +850,12 @@ public class DriverManagerConnectionProviderImpl
 
 		public Connection getConnection() throws SQLException {
 			startIfNeeded();
+			// wait for a connection before taking the lock: a thread waiting for a connection
+			// must not hold up stop(), nor the threads returning their connections behind it
+			pool.acquirePermit();
 			statelock.readLock().lock();
 			try {
-				return pool.poll();
+				return pool.pollWithPermit();
 			}
 			finally {
 				statelock.readLock().unlock();
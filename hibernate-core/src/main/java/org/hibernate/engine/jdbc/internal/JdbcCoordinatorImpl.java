@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -43,6 +44,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -84,8 +86,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final SessionFactoryImplementor sessionFactory = owner.getJdbcSessionContext().getSessionFactory();
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				sessionFactory == null ? 0 : sessionFactory.getSessionFactoryOptions().getJdbcStatementCacheSize()
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -332,6 +336,31 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				: ! hasRegisteredResources();
 	}
 
+	/**
+	 * Take an idle statement prepared for the given SQL from the statement cache, if
+	 * statement caching is enabled, recording the outcome in the statistics.
+	 *
+	 * @return The cached statement, or {@code null}
+	 */
+	PreparedStatement getCachedStatement(String sql) {
+		final ResourceRegistry resourceRegistry = getLogicalConnection().getResourceRegistry();
+		if ( !resourceRegistry.isStatementCachingEnabled() ) {
+			return null;
+		}
+
+		final PreparedStatement statement = resourceRegistry.getCachedStatement( sql );
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( statement == null ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			else {
+				statistics.preparedStatementCacheHit();
+			}
+		}
+		return statement;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void registerLastQuery(Statement statement) {
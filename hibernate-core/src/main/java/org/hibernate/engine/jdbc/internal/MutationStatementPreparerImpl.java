@@ -36,7 +36,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
@@ -79,17 +79,36 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean cacheable;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false );
+		}
+
+		/**
+		 * @param cacheable Whether the statement is a plain {@link Connection#prepareStatement(String)},
+		 * which may be kept open for reuse if statement caching is enabled
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean cacheable) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cacheable = cacheable;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
+				if ( cacheable ) {
+					final PreparedStatement cachedStatement = jdbcCoordinator.getCachedStatement( sql );
+					if ( cachedStatement != null ) {
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+				}
+
 				final PreparedStatement preparedStatement;
 				//noinspection deprecation
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
@@ -104,6 +123,10 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 					observer.jdbcPrepareStatementEnd();
 				}
 				postProcess( preparedStatement );
+				if ( cacheable ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry()
+							.registerCacheable( preparedStatement, sql );
+				}
 				return preparedStatement;
 			}
 			catch (SQLException e) {
@@ -82,7 +82,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -142,7 +142,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, !isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -156,19 +156,38 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean cacheable;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false );
+		}
+
+		/**
+		 * @param cacheable Whether the statement is a plain {@link Connection#prepareStatement(String)},
+		 * which may be kept open for reuse if statement caching is enabled
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean cacheable) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cacheable = cacheable;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
+				if ( cacheable ) {
+					final PreparedStatement cachedStatement = jdbcCoordinator.getCachedStatement( sql );
+					if ( cachedStatement != null ) {
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+				}
+
 				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
 				try {
@@ -180,6 +199,10 @@ class StatementPreparerImpl implements StatementPreparer {
 					observer.jdbcPrepareStatementEnd();
 				}
 				postProcess( preparedStatement );
+				if ( cacheable ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry()
+							.registerCacheable( preparedStatement, sql );
+				}
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -207,6 +230,10 @@ class StatementPreparerImpl implements StatementPreparer {
 			super( sql );
 		}
 
+		protected QueryStatementPreparationTemplate(String sql, boolean cacheable) {
+			super( sql, cacheable );
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			super.postProcess( preparedStatement );
 			setStatementFetchSize( preparedStatement );
@@ -45,6 +45,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final long startTime = statistics.isLatencyRecordingEnabled() ? System.nanoTime() : 0L;
 				flushEverythingToExecutions( event );
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
@@ -57,9 +59,13 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 					postPostFlush( source );
 
-					final StatisticsImplementor statistics = source.getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
-						statistics.flush();
+						if ( startTime != 0L ) {
+							statistics.flush( System.nanoTime() - startTime );
+						}
+						else {
+							statistics.flush();
+						}
 					}
 				}
 				else {
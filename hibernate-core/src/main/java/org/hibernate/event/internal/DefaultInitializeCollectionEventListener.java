@@ -137,20 +137,24 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 		final SessionFactoryImplementor factory = source.getFactory();
 		final CollectionDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		final Object ck = cacheAccessStrategy.generateCacheKey( id, persister, factory, source.getTenantIdentifier() );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final long startTime = statistics.isLatencyRecordingEnabled() ? System.nanoTime() : 0L;
 		final Object ce = CacheHelper.fromSharedCache( source, ck, cacheAccessStrategy );
 
-		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
+			final long duration = startTime != 0L ? System.nanoTime() - startTime : 0L;
 			if ( ce == null ) {
 				statistics.collectionCacheMiss(
 						persister.getNavigableRole(),
-						cacheAccessStrategy.getRegion().getName()
+						cacheAccessStrategy.getRegion().getName(),
+						duration
 				);
 			}
 			else {
 				statistics.collectionCacheHit(
 						persister.getNavigableRole(),
-						cacheAccessStrategy.getRegion().getName()
+						cacheAccessStrategy.getRegion().getName(),
+						duration
 				);
 			}
 		}
@@ -31,6 +31,24 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 		}
 	}
 
+	/**
+	 * Whether the time taken to obtain connections should be measured.
+	 */
+	public boolean isLatencyRecordingEnabled() {
+		return sessionFactory.getStatistics().isLatencyRecordingEnabled();
+	}
+
+	/**
+	 * Notification of a connection having been obtained, along with the
+	 * time taken to obtain it.
+	 */
+	public void physicalConnectionObtained(Connection connection, long nanoseconds) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.connect( nanoseconds );
+		}
+	}
+
 	@Override
 	public void physicalConnectionReleased() {
 	}
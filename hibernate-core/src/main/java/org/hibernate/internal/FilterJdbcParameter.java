@@ -6,8 +6,10 @@
  */
 package org.hibernate.internal;
 
+import java.util.Iterator;
 import java.util.Objects;
 
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
@@ -23,11 +25,32 @@ public class FilterJdbcParameter {
 	private final JdbcParameter parameter;
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int elementIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * @param filterName The name of the filter the parameter belongs to
+	 * @param parameterName The name of the filter parameter
+	 * @param elementIndex The index of the element bound to this JDBC parameter if the
+	 * argument of the filter parameter is a list, or {@code -1}
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int elementIndex) {
 		this.parameter = new JdbcParameterImpl( jdbcMapping );
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.elementIndex = elementIndex;
 	}
 
 	public JdbcParameter getParameter() {
@@ -42,6 +65,37 @@ public class FilterJdbcParameter {
 		return new JdbcParameterBindingImpl( jdbcMapping, jdbcMapping.convertToRelationalValue( jdbcParameterValue ) );
 	}
 
+	/**
+	 * The binding of the current argument of the filter parameter, which might differ from the
+	 * argument the SQL was translated with, when the translation is cached.
+	 */
+	public JdbcParameterBinding getBinding(LoadQueryInfluencers loadQueryInfluencers) {
+		final FilterImpl filter = filterName == null
+				? null
+				: (FilterImpl) loadQueryInfluencers.getEnabledFilter( filterName );
+		if ( filter == null ) {
+			return getBinding();
+		}
+		final Object argument = filter.getParameter( parameterName );
+		final Object value;
+		if ( elementIndex < 0 ) {
+			value = filter.getFilterDefinition().processArgument( argument );
+		}
+		else {
+			value = element( (Iterable<?>) argument, elementIndex );
+		}
+		return new JdbcParameterBindingImpl( jdbcMapping, jdbcMapping.convertToRelationalValue( value ) );
+	}
+
+	private static Object element(Iterable<?> iterable, int index) {
+		final Iterator<?> iterator = iterable.iterator();
+		for ( int i = 0; i < index && iterator.hasNext(); i++ ) {
+			iterator.next();
+		}
+		// an empty list is bound as a single null
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -21,6 +21,8 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
 
+	private long connectionAcquisitionStartTime;
+
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
@@ -29,11 +31,18 @@ public final class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		connectionAcquisitionStartTime = observer.isLatencyRecordingEnabled() ? System.nanoTime() : 0L;
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
-		observer.physicalConnectionObtained( connection );
+		if ( connectionAcquisitionStartTime != 0L ) {
+			observer.physicalConnectionObtained( connection, System.nanoTime() - connectionAcquisitionStartTime );
+			connectionAcquisitionStartTime = 0L;
+		}
+		else {
+			observer.physicalConnectionObtained( connection );
+		}
 	}
 
 	@Override
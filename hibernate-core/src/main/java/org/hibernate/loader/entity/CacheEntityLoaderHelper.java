@@ -248,19 +248,23 @@ public class CacheEntityLoaderHelper {
 				source.getTenantIdentifier()
 		);
 
-		final Object ce = CacheHelper.fromSharedCache( source, ck, persister.getCacheAccessStrategy() );
 		final StatisticsImplementor statistics = factory.getStatistics();
+		final long startTime = statistics.isLatencyRecordingEnabled() ? System.nanoTime() : 0L;
+		final Object ce = CacheHelper.fromSharedCache( source, ck, persister.getCacheAccessStrategy() );
 		if ( statistics.isStatisticsEnabled() ) {
+			final long duration = startTime != 0L ? System.nanoTime() - startTime : 0L;
 			if ( ce == null ) {
 				statistics.entityCacheMiss(
 						StatsHelper.INSTANCE.getRootEntityRole( persister ),
-						cache.getRegion().getName()
+						cache.getRegion().getName(),
+						duration
 				);
 			}
 			else {
 				statistics.entityCacheHit(
 						StatsHelper.INSTANCE.getRootEntityRole( persister ),
-						cache.getRegion().getName()
+						cache.getRegion().getName(),
+						duration
 				);
 			}
 		}
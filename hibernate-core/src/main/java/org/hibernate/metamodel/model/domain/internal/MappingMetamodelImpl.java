@@ -10,11 +10,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -35,17 +41,24 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Value;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting;
 import org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting;
@@ -209,37 +222,53 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
 		bootModel.getEntityBindings().forEach( PersistentClass::prepareForMappingModel );
 
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
-		);
+		final ForkJoinPool persisterCreationPool = createPersisterCreationPool( sessionFactory.getProperties() );
+		if ( persisterCreationPool != null ) {
+			// the boot model is shared by the persisters, and resolves some of its state lazily
+			resolveBootValues( bootModel );
+		}
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					persisterCreationPool
+			);
 
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
-		);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					persisterCreationPool
+			);
 
 
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// after *all* persisters and named queries are registered
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// after *all* persisters and named queries are registered
 
-		MappingModelCreationProcess.process(
-				entityPersisterMap,
-				sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
-				runtimeModelCreationContext
-		);
+			MappingModelCreationProcess.process(
+					entityPersisterMap,
+					sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
+					runtimeModelCreationContext
+			);
+
+			// the same persister may be registered under both its entity name and class name
+			final Set<EntityPersister> entityPersisters = new LinkedHashSet<>( entityPersisterMap.values() );
+			invokeInParallel( entityPersisters, EntityPersister::postInstantiate, persisterCreationPool );
+			invokeInParallel( collectionPersisterMap.values(), CollectionPersister::postInstantiate, persisterCreationPool );
+		}
+		finally {
+			if ( persisterCreationPool != null ) {
+				persisterCreationPool.shutdown();
+			}
+		}
 
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
 			registerEntityNameResolvers( persister, entityNameResolvers );
 		}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
-
 		registerEmbeddableMappingType( bootModel );
 
 		( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
@@ -265,23 +294,166 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		);
 	}
 
+	/**
+	 * Creates the pool used to build persisters concurrently, or returns {@code null}
+	 * if {@value AvailableSettings#PERSISTER_CREATION_PARALLELISM} does not ask for
+	 * more than one thread.
+	 */
+	private static ForkJoinPool createPersisterCreationPool(Map<String, Object> properties) {
+		final int parallelism = ConfigurationHelper.getInt( AvailableSettings.PERSISTER_CREATION_PARALLELISM, properties, 1 );
+		if ( parallelism <= 1 ) {
+			return null;
+		}
+		log.debugf( "Creating persisters using %s threads", parallelism );
+		// persister creation may need to load classes through the application class loader
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-persister-creation-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * Resolves the lazily initialized state of the values of the boot model, such as
+	 * {@link BasicValue#resolve() the resolution of basic values} and the types of
+	 * values, so that the persisters which share these values may then be created
+	 * concurrently.  The boot model is not threadsafe, and concurrent resolution of
+	 * a value would be a data race.
+	 */
+	private static void resolveBootValues(MetadataImplementor bootModel) {
+		for ( PersistentClass entityBinding : bootModel.getEntityBindings() ) {
+			resolveBootValue( entityBinding.getIdentifier() );
+			resolveBootValue( entityBinding.getIdentifierMapper() );
+			resolveBootValue( entityBinding.getDiscriminator() );
+			for ( Property property : entityBinding.getProperties() ) {
+				resolveBootValue( property.getValue() );
+			}
+		}
+		for ( Collection collectionBinding : bootModel.getCollectionBindings() ) {
+			resolveBootValue( collectionBinding );
+		}
+	}
+
+	private static void resolveBootValue(Value value) {
+		if ( value == null ) {
+			return;
+		}
+		if ( value instanceof BasicValue ) {
+			( (BasicValue) value ).resolve();
+		}
+		else if ( value instanceof Component ) {
+			for ( Property property : ( (Component) value ).getProperties() ) {
+				resolveBootValue( property.getValue() );
+			}
+		}
+		else if ( value instanceof Collection ) {
+			final Collection collection = (Collection) value;
+			collection.getCollectionSemantics();
+			resolveBootValue( collection.getKey() );
+			resolveBootValue( collection.getElement() );
+			if ( collection instanceof IndexedCollection ) {
+				resolveBootValue( ( (IndexedCollection) collection ).getIndex() );
+			}
+			if ( collection instanceof IdentifierCollection ) {
+				resolveBootValue( ( (IdentifierCollection) collection ).getIdentifier() );
+			}
+		}
+		value.getType();
+	}
+
+	/**
+	 * Applies the given function to each of the bindings, returning the results in
+	 * iteration order of the bindings.  When a pool is given, the function is
+	 * applied concurrently; completion of {@link ForkJoinPool#invokeAll} acts as the
+	 * barrier which safely publishes the results to the calling thread.
+	 */
+	private static <B, R> List<R> applyInParallel(
+			java.util.Collection<B> bindings,
+			Function<B, R> function,
+			ForkJoinPool pool) {
+		final List<R> results = new ArrayList<>( bindings.size() );
+		if ( pool == null ) {
+			for ( B binding : bindings ) {
+				results.add( function.apply( binding ) );
+			}
+		}
+		else {
+			final List<Callable<R>> tasks = new ArrayList<>( bindings.size() );
+			for ( B binding : bindings ) {
+				tasks.add( () -> function.apply( binding ) );
+			}
+			for ( Future<R> future : pool.invokeAll( tasks ) ) {
+				try {
+					results.add( future.get() );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new HibernateException( "Interrupted while creating persisters", e );
+				}
+				catch (ExecutionException e) {
+					final Throwable cause = e.getCause();
+					if ( cause instanceof RuntimeException ) {
+						throw (RuntimeException) cause;
+					}
+					else if ( cause instanceof Error ) {
+						throw (Error) cause;
+					}
+					throw new HibernateException( "Unable to create persister", cause );
+				}
+			}
+		}
+		return results;
+	}
+
+	private static <B> void invokeInParallel(
+			java.util.Collection<B> bindings,
+			Consumer<B> action,
+			ForkJoinPool pool) {
+		applyInParallel(
+				bindings,
+				binding -> {
+					action.accept( binding );
+					return null;
+				},
+				pool
+		);
+	}
+
 	private void processBootEntities(
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool persisterCreationPool) {
+		final List<EntityPersister> persisters = applyInParallel(
+				entityBindings,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
+
+		// register the persisters in binding order so that the outcome does not
+		// depend on whether they were created concurrently
+		int i = 0;
 		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			final EntityPersister cp = persisters.get( i++ );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -332,18 +504,28 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool persisterCreationPool) {
+		final List<CollectionPersister> persisters = applyInParallel(
+				collectionBindings,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
+		int i = 0;
+		for ( final Collection model : collectionBindings ) {
+			final CollectionPersister persister = persisters.get( i++ );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
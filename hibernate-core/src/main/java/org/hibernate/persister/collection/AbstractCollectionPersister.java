@@ -251,7 +251,7 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 	private volatile CollectionLoader standardCollectionLoader;
-	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
 
@@ -650,23 +650,19 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public void postInstantiate() throws MappingException {
-		if ( queryLoaderName == null ) {
-			collectionLoader = createCollectionLoader( LoadQueryInfluencers.NONE );
-		}
-		else {
+		if ( queryLoaderName != null ) {
 			// We pass null as metamodel because we did the initialization during construction already
 			final NamedQueryMemento namedQueryMemento = factory.getQueryEngine().getNamedObjectRepository()
 					.resolve( factory, null, queryLoaderName );
 			collectionLoader = new CollectionLoaderNamedQuery( this, namedQueryMemento );
 		}
 
-		if ( attributeMapping.getIndexDescriptor() != null ) {
-			collectionElementLoaderByIndex = new CollectionElementLoaderByIndex(
-					attributeMapping,
-					baseIndex,
-					LoadQueryInfluencers.NONE,
-					getFactory()
-			);
+		if ( !factory.getSessionFactoryOptions().isDelayPersisterInitializationEnabled() ) {
+			// otherwise the loaders are created on first use
+			getStandardCollectionLoader();
+			if ( attributeMapping.getIndexDescriptor() != null ) {
+				getCollectionElementLoaderByIndex();
+			}
 		}
 
 		logStaticSQL();
@@ -726,6 +722,25 @@ public abstract class AbstractCollectionPersister
 		return localCopy;
 	}
 
+	private CollectionElementLoaderByIndex getCollectionElementLoaderByIndex() {
+		CollectionElementLoaderByIndex localCopy = collectionElementLoaderByIndex;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionElementLoaderByIndex;
+				if ( localCopy == null ) {
+					localCopy = new CollectionElementLoaderByIndex(
+							attributeMapping,
+							baseIndex,
+							LoadQueryInfluencers.NONE,
+							getFactory()
+					);
+					collectionElementLoaderByIndex = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
 	protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContractImplementor session) {
 		if ( queryLoaderName != null ) {
 			// if there is a user-specified loader, return that
@@ -1520,7 +1535,7 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner) {
-		return collectionElementLoaderByIndex.load( key, index, session );
+		return getCollectionElementLoaderByIndex().load( key, index, session );
 	}
 
 	@Override
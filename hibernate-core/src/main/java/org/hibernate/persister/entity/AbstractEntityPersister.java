@@ -379,9 +379,9 @@ public abstract class AbstractEntityPersister
 	private final LockModeEnumMap<LockingStrategy> lockers = new LockModeEnumMap<>();
 
 	private EntityTableMapping[] tableMappings;
-	private InsertCoordinator insertCoordinator;
-	private UpdateCoordinator updateCoordinator;
-	private DeleteCoordinator deleteCoordinator;
+	private volatile InsertCoordinator insertCoordinator;
+	private volatile UpdateCoordinator updateCoordinator;
+	private volatile DeleteCoordinator deleteCoordinator;
 
 	protected Expectation[] insertExpectations;
 	protected Expectation[] updateExpectations;
@@ -389,7 +389,7 @@ public abstract class AbstractEntityPersister
 
 	// SQL strings
 	private String sqlVersionSelectString;
-	private Map<String, SingleIdArrayLoadPlan> sqlLazySelectStringsByFetchGroup;
+	private volatile Map<String, SingleIdArrayLoadPlan> sqlLazySelectStringsByFetchGroup;
 
 	private String[] sqlLazyUpdateStrings;
 	private String sqlUpdateByRowIdString;
@@ -910,22 +910,70 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
-		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
+		return getSQLLazySelectLoadPlans().get( fetchGroup );
+	}
+
+	// The lazy select plans and the mutation coordinators are built from postInstantiate(),
+	// or on first use when SessionFactoryOptions#isDelayPersisterInitializationEnabled().
+	// lazily initialize instance field via 'double-checked locking'
+	// see https://en.wikipedia.org/wiki/Double-checked_locking on why 'volatile' and local copy is used
+	private Map<String, SingleIdArrayLoadPlan> getSQLLazySelectLoadPlans() {
+		Map<String, SingleIdArrayLoadPlan> localCopy = sqlLazySelectStringsByFetchGroup;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = sqlLazySelectStringsByFetchGroup;
+				if ( localCopy == null ) {
+					localCopy = generateLazySelectStringsByFetchGroup();
+					sqlLazySelectStringsByFetchGroup = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Internal
 	public InsertCoordinator getInsertCoordinator() {
-		return insertCoordinator;
+		InsertCoordinator localCopy = insertCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = insertCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildInsertCoordinator();
+					insertCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Internal
 	public UpdateCoordinator getUpdateCoordinator() {
-		return updateCoordinator;
+		UpdateCoordinator localCopy = updateCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = updateCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildUpdateCoordinator();
+					updateCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	@Internal
 	public DeleteCoordinator getDeleteCoordinator() {
-		return deleteCoordinator;
+		DeleteCoordinator localCopy = deleteCoordinator;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = deleteCoordinator;
+				if ( localCopy == null ) {
+					localCopy = buildDeleteCoordinator();
+					deleteCoordinator = localCopy;
+				}
+			}
+		}
+		return localCopy;
 	}
 
 	public String[] getSQLLazyUpdateStrings() {
@@ -1966,7 +2014,7 @@ public abstract class AbstractEntityPersister
 			);
 		}
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 
 //		// todo : cache this sql...
 //		String versionIncrementString = generateVersionIncrementUpdateString();
@@ -2901,7 +2949,7 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final Object rowId,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		updateCoordinator.coordinateUpdate(
+		getUpdateCoordinator().coordinateUpdate(
 				object,
 				id,
 				rowId,
@@ -2932,12 +2980,12 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object insert(Object[] fields, Object object, SharedSessionContractImplementor session) {
-		return insertCoordinator.coordinateInsert( null, fields, object, session );
+		return getInsertCoordinator().coordinateInsert( null, fields, object, session );
 	}
 
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
-		insertCoordinator.coordinateInsert( id, fields, object, session );
+		getInsertCoordinator().coordinateInsert( id, fields, object, session );
 	}
 
 
@@ -3030,7 +3078,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.coordinateDelete( object, id, version, session );
+		getDeleteCoordinator().coordinateDelete( object, id, version, session );
 	}
 
 	protected boolean isAllOrDirtyOptLocking() {
@@ -3040,14 +3088,17 @@ public abstract class AbstractEntityPersister
 	protected void logStaticSQL() {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Static SQL for entity: %s", getEntityName() );
-			for ( Map.Entry<String, SingleIdArrayLoadPlan> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
-				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue().getJdbcSelect().getSqlString() );
+			// when initialization is delayed, the lazy selects and coordinators may not be built yet
+			if ( sqlLazySelectStringsByFetchGroup != null ) {
+				for ( Map.Entry<String, SingleIdArrayLoadPlan> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
+					LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue().getJdbcSelect().getSqlString() );
+				}
 			}
 			if ( sqlVersionSelectString != null ) {
 				LOG.debugf( " Version select: %s", sqlVersionSelectString );
 			}
 
-			if ( insertCoordinator.getStaticInsertGroup() != null ) {
+			if ( insertCoordinator != null && insertCoordinator.getStaticInsertGroup() != null ) {
 				insertCoordinator.getStaticInsertGroup().forEachOperation( (tablePosition, mutation) -> {
 					if ( mutation instanceof JdbcOperation ) {
 						LOG.debugf( " Insert (%s): %s", tablePosition, ( (JdbcOperation) mutation ).getSqlString() );
@@ -3055,17 +3106,21 @@ public abstract class AbstractEntityPersister
 				} );
 			}
 
-			updateCoordinator.getStaticUpdateGroup().forEachOperation( (tablePosition, mutation) -> {
-				if ( mutation instanceof JdbcOperation ) {
-					LOG.debugf( " Update (%s): %s", tablePosition, ( (JdbcOperation) mutation ).getSqlString() );
-				}
-			} );
+			if ( updateCoordinator != null ) {
+				updateCoordinator.getStaticUpdateGroup().forEachOperation( (tablePosition, mutation) -> {
+					if ( mutation instanceof JdbcOperation ) {
+						LOG.debugf( " Update (%s): %s", tablePosition, ( (JdbcOperation) mutation ).getSqlString() );
+					}
+				} );
+			}
 
-			deleteCoordinator.getStaticDeleteGroup().forEachOperation( (tablePosition, mutation) -> {
-				if ( mutation instanceof JdbcOperation ) {
-					LOG.debugf( " Delete (%s): %s", tablePosition, ( (JdbcOperation) mutation ).getSqlString() );
-				}
-			} );
+			if ( deleteCoordinator != null ) {
+				deleteCoordinator.getStaticDeleteGroup().forEachOperation( (tablePosition, mutation) -> {
+					if ( mutation instanceof JdbcOperation ) {
+						LOG.debugf( " Delete (%s): %s", tablePosition, ( (JdbcOperation) mutation ).getSqlString() );
+					}
+				} );
+			}
 
 			if ( sqlUpdateByRowIdString != null ) {
 				LOG.debugf( " Update by row id (all fields): %s", sqlUpdateByRowIdString );
@@ -3187,9 +3242,6 @@ public abstract class AbstractEntityPersister
 		}
 
 		tableMappings = buildTableMappings();
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
 
 		final int joinSpan = getTableSpan();
 		sqlLazyUpdateStrings = new String[joinSpan];
@@ -3215,9 +3267,15 @@ public abstract class AbstractEntityPersister
 		}
 
 		//select SQL
-		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 
+		if ( !factory.getSessionFactoryOptions().isDelayPersisterInitializationEnabled() ) {
+			getInsertCoordinator();
+			getUpdateCoordinator();
+			getDeleteCoordinator();
+			getSQLLazySelectLoadPlans();
+		}
+
 		logStaticSQL();
 	}
 
@@ -6029,7 +6087,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticDeleteGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticDeleteGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -6049,7 +6107,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticUpdateGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticUpdateGroup() );
 	}
 
 	/**
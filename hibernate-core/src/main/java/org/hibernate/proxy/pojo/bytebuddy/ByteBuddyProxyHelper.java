@@ -51,6 +51,13 @@ public class ByteBuddyProxyHelper implements Serializable {
 	public Class buildProxy(
 			final Class<?> persistentClass,
 			final Class<?>[] interfaces) {
+		if ( interfaces.length == 1 && interfaces[0] == HibernateProxy.class ) {
+			final Class<?> buildTimeProxy = loadBuildTimeProxy( persistentClass );
+			if ( buildTimeProxy != null ) {
+				return buildTimeProxy;
+			}
+		}
+
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
@@ -78,6 +85,56 @@ public class ByteBuddyProxyHelper implements Serializable {
 		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
 	}
 
+	/**
+	 * The name of the proxy class generated at build time for the given entity class.
+	 * <p>
+	 * Proxy classes generated at runtime always carry an additional random suffix,
+	 * so the two never clash.
+	 *
+	 * @param persistentClassName The name of the entity class
+	 * @return The name of the build time proxy class
+	 */
+	public static String buildTimeProxyClassName(String persistentClassName) {
+		return persistentClassName + "$" + PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Build, typically at build time, the proxy class for an entity class only implementing {@link HibernateProxy}.
+	 * The proxy class is named as per {@link #buildTimeProxyClassName(String)}, which allows {@link #buildProxy}
+	 * to pick it up instead of generating a proxy class at runtime.
+	 */
+	public DynamicType.Unloaded<?> buildUnloadedBuildTimeProxy(TypePool typePool, TypeDefinition persistentClass) {
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder(
+				persistentClass,
+				Collections.singletonList( TypeDescription.ForLoadedType.of( HibernateProxy.class ) )
+		);
+		return byteBuddyState.make(
+				typePool,
+				byteBuddy -> proxyBuilder.apply( byteBuddy ).name( buildTimeProxyClassName( persistentClass.getTypeName() ) )
+		);
+	}
+
+	private static Class<?> loadBuildTimeProxy(Class<?> persistentClass) {
+		final String proxyClassName = buildTimeProxyClassName( persistentClass.getName() );
+		final Class<?> proxyClass;
+		try {
+			proxyClass = Class.forName( proxyClassName, false, persistentClass.getClassLoader() );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass ) ) {
+			LOG.debugf( "Ignoring class [%s] as it is not a proxy for [%s]", proxyClassName, persistentClass.getName() );
+			return null;
+		}
+
+		LOG.debugf( "Using proxy class [%s] generated at build time", proxyClassName );
+		return proxyClass;
+	}
+
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Incubating;
+
+/**
+ * A page of the results of a query for {@linkplain SelectionQuery#getKeyedResultList
+ * key-based pagination}, also known as keyset or seek pagination.  Rather than by an
+ * offset, a page is identified by the key of the last result of the previous page,
+ * that is, by the values of the expressions of the {@code order by} clause for that
+ * result, so that fetching a page does not get slower the deeper the page is.
+ * <p>
+ * The first page is obtained from {@link #first(int)}, and each subsequent page from
+ * {@link KeyedResultList#getNextPage()}.  Since a page is serializable, it may be kept
+ * between requests as the cursor of a paginated view.
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ * @see KeyedResultList
+ */
+@Incubating
+public final class KeyedPage implements Serializable {
+	private final int size;
+	private final List<Object> key;
+
+	private KeyedPage(int size, List<Object> key) {
+		if ( size <= 0 ) {
+			throw new IllegalArgumentException( "Page size must be positive: " + size );
+		}
+		this.size = size;
+		this.key = key;
+	}
+
+	/**
+	 * The first page of the given size.
+	 */
+	public static KeyedPage first(int size) {
+		return new KeyedPage( size, null );
+	}
+
+	/**
+	 * The page of the given size which follows the result with the given key.
+	 *
+	 * @param key The values of the expressions of the {@code order by} clause for the
+	 * last result of the previous page, in the order of the clause
+	 */
+	public static KeyedPage after(int size, List<?> key) {
+		if ( key == null || key.isEmpty() ) {
+			throw new IllegalArgumentException( "Key must not be empty" );
+		}
+		return new KeyedPage( size, Collections.unmodifiableList( new ArrayList<>( key ) ) );
+	}
+
+	/**
+	 * The maximum number of results of this page.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The key of the last result of the previous page, or {@code null} for the first page.
+	 */
+	public List<Object> getKey() {
+		return key;
+	}
+
+	public boolean isFirst() {
+		return key == null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof KeyedPage ) ) {
+			return false;
+		}
+		final KeyedPage that = (KeyedPage) o;
+		return size == that.size && Objects.equals( key, that.key );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * size + Objects.hashCode( key );
+	}
+
+	@Override
+	public String toString() {
+		return "KeyedPage(" + size + ( key == null ? ")" : " after " + key + ")" );
+	}
+}
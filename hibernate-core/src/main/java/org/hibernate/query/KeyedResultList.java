@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a query for a {@link KeyedPage}, along with their keys and the next page.
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ */
+@Incubating
+public class KeyedResultList<R> {
+	private final List<R> resultList;
+	private final List<List<Object>> keyList;
+	private final KeyedPage page;
+
+	public KeyedResultList(List<R> resultList, List<List<Object>> keyList, KeyedPage page) {
+		this.resultList = resultList;
+		this.keyList = keyList;
+		this.page = page;
+	}
+
+	/**
+	 * The results of the page.
+	 */
+	public List<R> getResultList() {
+		return resultList;
+	}
+
+	/**
+	 * The keys of the results of the page, that is, for each result, the values of
+	 * the expressions of the {@code order by} clause.
+	 */
+	public List<List<Object>> getKeyList() {
+		return keyList;
+	}
+
+	/**
+	 * The page the results were obtained for.
+	 */
+	public KeyedPage getPage() {
+		return page;
+	}
+
+	/**
+	 * Whether there may be further results, that is, whether the page is full.
+	 */
+	public boolean hasNextPage() {
+		return resultList.size() == page.getSize();
+	}
+
+	/**
+	 * The page following this one, or {@code null} if the page is not full, and
+	 * there are thus no further results.
+	 */
+	public KeyedPage getNextPage() {
+		return hasNextPage()
+				? KeyedPage.after( page.getSize(), keyList.get( keyList.size() - 1 ) )
+				: null;
+	}
+}
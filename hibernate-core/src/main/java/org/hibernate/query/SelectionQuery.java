@@ -157,6 +157,32 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	Optional<R> uniqueResultOptional();
 
+	/**
+	 * Execute the query and return the results of the given page, using key-based
+	 * pagination: instead of skipping the results of the previous pages by offset,
+	 * the query is restricted to the results following the key of the last result
+	 * of the previous page, in the order of the {@code order by} clause.  Unlike an
+	 * offset, this lets the database seek directly to the page using an index.
+	 * <p>
+	 * The query must have an {@code order by} clause whose expressions are never null
+	 * and uniquely identify a result, typically ending with the identifier.  The
+	 * {@linkplain #setFirstResult(int) first result} and {@linkplain #setMaxResults(int)
+	 * maximum results} of the query are ignored.
+	 *
+	 * @param page The page, either {@link KeyedPage#first(int)} or the
+	 * {@linkplain KeyedResultList#getNextPage() next page} of a previous result list
+	 *
+	 * @return The results of the page, along with their keys and the next page
+	 *
+	 * @throws UnsupportedOperationException if the query is not an HQL or criteria query
+	 * @throws IllegalQueryOperationException if the query has no {@code order by} clause,
+	 * or is a union, intersection or difference of queries
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	KeyedResultList<R> getKeyedResultList(KeyedPage page);
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	@Override
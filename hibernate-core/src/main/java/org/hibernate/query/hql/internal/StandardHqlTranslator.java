@@ -9,11 +9,11 @@ package org.hibernate.query.hql.internal;
 import java.util.BitSet;
 
 import org.hibernate.QueryException;
-import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.query.SemanticException;
 import org.hibernate.query.hql.HqlLogging;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.spi.HqlStatementParser;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.sqm.InterpretationException;
 import org.hibernate.query.sqm.ParsingException;
@@ -22,15 +22,12 @@ import org.hibernate.query.sqm.spi.SqmCreationContext;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.ATNConfigSet;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.dfa.DFA;
-import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Standard implementation of SemanticQueryInterpreter
@@ -72,7 +69,7 @@ public class StandardHqlTranslator implements HqlTranslator {
 
 	@Override
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
-		HqlLogging.QUERY_LOGGER.debugf( "HQL : " + query );
+		HqlLogging.QUERY_LOGGER.debugf( "HQL : %s", query );
 
 		final HqlParser.StatementContext hqlParseTree = parseHql( query );
 
@@ -99,35 +96,18 @@ public class StandardHqlTranslator implements HqlTranslator {
 	}
 
 	private HqlParser.StatementContext parseHql(String hql) {
-		// Build the lexer
-		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
-
-		// Build the parse tree
-		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
-
-		// try to use SLL(k)-based parsing first - its faster
-		hqlLexer.addErrorListener( ERR_LISTENER );
-		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
-		hqlParser.removeErrorListeners();
-		hqlParser.addErrorListener( ERR_LISTENER );
-		hqlParser.setErrorHandler( new BailErrorStrategy() );
-
-		try {
-			return hqlParser.statement();
-		}
-		catch ( ParseCancellationException e) {
-			// reset the input token stream and parser state
-			hqlLexer.reset();
-			hqlParser.reset();
-
-			// fall back to LL(k)-based parsing
-			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
-			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
-
-			return hqlParser.statement();
-		}
-		catch ( ParsingException ex ) {
-			throw new SemanticException( "A query exception occurred", hql, ex );
-		}
+		// errors of the lexer are reported as a SemanticException for the query,
+		// while syntax errors of the parser propagate as a ParsingException
+		final ANTLRErrorListener lexerErrorListener = new BaseErrorListener() {
+			@Override
+			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+				throw new SemanticException(
+						"A query exception occurred",
+						hql,
+						new ParsingException( "line " + line + ":" + charPositionInLine + " " + msg )
+				);
+			}
+		};
+		return HqlStatementParser.parse( hql, lexerErrorListener, ERR_LISTENER );
 	}
 }
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.hql.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.HqlLogging;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * Parses an HQL statement into its Antlr parse tree, for the
+ * {@linkplain org.hibernate.query.hql.HqlTranslator translator} and for tools
+ * which check the syntax of HQL, such as the metamodel generator.
+ * <p>
+ * SLL(k)-based prediction is tried first, since it is faster, and LL(k)-based
+ * prediction is only used when it fails.  Since SLL(k) may fail for a well-formed
+ * statement, syntax errors of the parser are only reported to the given listener
+ * during the LL(k) stage.
+ *
+ * @since 6.2
+ */
+@Incubating
+public final class HqlStatementParser {
+	private HqlStatementParser() {
+	}
+
+	/**
+	 * Parse the given HQL statement.
+	 *
+	 * @param hql The HQL statement
+	 * @param errorListener The listener for the syntax errors of the lexer and the parser,
+	 * which may throw an exception to abort the parsing
+	 *
+	 * @return The parse tree of the statement
+	 */
+	public static HqlParser.StatementContext parse(String hql, ANTLRErrorListener errorListener) {
+		return parse( hql, errorListener, errorListener );
+	}
+
+	/**
+	 * Parse the given HQL statement, reporting the errors of the lexer and of the
+	 * parser to distinct listeners.
+	 *
+	 * @param hql The HQL statement
+	 * @param lexerErrorListener The listener for the errors of the lexer
+	 * @param parserErrorListener The listener for the syntax errors of the parser
+	 *
+	 * @return The parse tree of the statement
+	 */
+	public static HqlParser.StatementContext parse(
+			String hql,
+			ANTLRErrorListener lexerErrorListener,
+			ANTLRErrorListener parserErrorListener) {
+		// Build the lexer
+		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+
+		// Build the parse tree
+		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+
+		hqlLexer.removeErrorListeners();
+		hqlLexer.addErrorListener( lexerErrorListener );
+
+		// try to use SLL(k)-based parsing first - its faster.  Since SLL(k) may fail for
+		// a well-formed query, errors must not be reported in this stage: the parser just
+		// bails out at the first one, and we fall back to LL(k)-based parsing
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+
+		try {
+			return hqlParser.statement();
+		}
+		catch ( ParseCancellationException e) {
+			HqlLogging.QUERY_LOGGER.debugf( "SLL(k)-based parsing failed, falling back to LL(k) : %s", hql );
+
+			// reset the parser state and rewind the token stream, whose tokens
+			// are reused, so the lexer must not be reset
+			hqlParser.reset();
+
+			// fall back to LL(k)-based parsing
+			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			hqlParser.addErrorListener( parserErrorListener );
+			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
+
+			return hqlParser.statement();
+		}
+	}
+}
@@ -47,6 +47,8 @@ import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
@@ -491,6 +493,11 @@ public abstract class AbstractSelectionQuery<R>
 		return Optional.ofNullable( uniqueResult() );
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		throw new UnsupportedOperationException( "Key-based pagination is only supported for HQL and criteria queries" );
+	}
+
 	@Override
 	public R getSingleResultOrNull() {
 		try {
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * The translation of a non-select statement, which its query plan keeps for subsequent
+ * executions.  Since the plan may be cached and shared by concurrent executions, the
+ * translation is immutable once built, and expands multi-valued parameters into a copy
+ * of the {@link DomainParameterXref} of the plan.
+ *
+ * @see SqmInterpretationsKey#generateNonSelectKey
+ */
+class CacheableSqmMutationInterpretation<S extends Statement, J extends JdbcOperationQueryMutation> {
+
+	/**
+	 * Translate the statement for the given execution.
+	 *
+	 * @param sqmTranslatorCreator Creates the translator of the SQM statement for the given
+	 * parameter cross-reference and execution
+	 * @param sqlAstTranslatorCreator Creates the translator of the SQL AST statement
+	 */
+	static <S extends Statement, J extends JdbcOperationQueryMutation> CacheableSqmMutationInterpretation<S, J> build(
+			DomainParameterXref planDomainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			BiFunction<DomainParameterXref, DomainQueryExecutionContext, SqmTranslator<S>> sqmTranslatorCreator,
+			BiFunction<SessionFactoryImplementor, S, SqlAstTranslator<J>> sqlAstTranslatorCreator) {
+		final DomainParameterXref domainParameterXref = planDomainParameterXref.copy();
+		final SqmTranslation<S> sqmTranslation = sqmTranslatorCreator.apply( domainParameterXref, executionContext )
+				.translate();
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref
+				= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmTranslation::getJdbcParamsBySqmParam );
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmTranslation,
+				domainParameterXref,
+				jdbcParamsXref,
+				executionContext
+		);
+		final J jdbcOperation = sqlAstTranslatorCreator.apply(
+				executionContext.getSession().getFactory(),
+				sqmTranslation.getSqlAst()
+		).translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+
+		return new CacheableSqmMutationInterpretation<>(
+				sqmTranslation,
+				jdbcOperation,
+				domainParameterXref,
+				jdbcParamsXref,
+				executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings(),
+				jdbcParameterBindings
+		);
+	}
+
+	private final SqmTranslation<S> sqmTranslation;
+	private final J jdbcOperation;
+	private final DomainParameterXref domainParameterXref;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private final boolean expandsMultiValuedParameters;
+	private transient JdbcParameterBindings firstParameterBindings;
+
+	private CacheableSqmMutationInterpretation(
+			SqmTranslation<S> sqmTranslation,
+			J jdbcOperation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			boolean expandsMultiValuedParameters,
+			JdbcParameterBindings firstParameterBindings) {
+		this.sqmTranslation = sqmTranslation;
+		this.jdbcOperation = jdbcOperation;
+		this.domainParameterXref = domainParameterXref;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.expandsMultiValuedParameters = expandsMultiValuedParameters;
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	SqmTranslation<S> getSqmTranslation() {
+		return sqmTranslation;
+	}
+
+	J getJdbcOperation() {
+		return jdbcOperation;
+	}
+
+	Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
+		return jdbcParamsXref;
+	}
+
+	/**
+	 * The bindings of the execution this translation was built for.  Must be called once,
+	 * before the translation is shared.
+	 */
+	JdbcParameterBindings takeFirstParameterBindings() {
+		final JdbcParameterBindings jdbcParameterBindings = firstParameterBindings;
+		firstParameterBindings = null;
+		return jdbcParameterBindings;
+	}
+
+	/**
+	 * Create the bindings of the given execution, if this translation can be reused for it.
+	 *
+	 * @return The bindings, or {@code null} if the statement must be translated anew
+	 */
+	JdbcParameterBindings createJdbcParameterBindingsForReuse(DomainQueryExecutionContext executionContext) {
+		if ( expandsMultiValuedParameters
+				|| executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			// the translation depends on the number of values of the multi-valued parameters
+			return null;
+		}
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmTranslation,
+				domainParameterXref,
+				jdbcParamsXref,
+				executionContext
+		);
+		if ( !jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			return null;
+		}
+		jdbcOperation.bindFilterJdbcParameters(
+				jdbcParameterBindings,
+				executionContext.getSession().getLoadQueryInfluencers()
+		);
+		return jdbcParameterBindings;
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<?> sqmTranslation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				sqmTranslation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmTranslation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+					}
+				},
+				session
+		);
+	}
+}
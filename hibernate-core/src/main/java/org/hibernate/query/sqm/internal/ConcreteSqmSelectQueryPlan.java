@@ -7,9 +7,11 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -31,6 +33,8 @@ import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -61,6 +65,7 @@ import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
+import static org.hibernate.query.sqm.internal.SqmUtil.determineInListExpansionCount;
 
 /**
  * Standard Hibernate implementation of SelectQueryPlan for SQM-backed
@@ -70,13 +75,26 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translations kept for the different numbers of values of
+	 * multi-valued parameters
+	 */
+	private static final int MAX_EXPANDED_INTERPRETATIONS = 32;
+
+	/**
+	 * The maximum number of translations kept for the same parameter expansion, which
+	 * differ in their limit and offset, or in the parameter bindings they inlined
+	 */
+	private static final int MAX_VARIANTS = 4;
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private volatile CacheableSqmInterpretation[] cacheableSqmInterpretations;
+	private final Map<ExpansionKey, CacheableSqmInterpretation[]> expandedSqmInterpretations = new ConcurrentHashMap<>();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -100,49 +118,43 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey, entry );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey, entry );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
-						},
-						rowTransformer,
-						uniqueSemantic
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					uniqueSemantic
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
 //						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
 //						sqmInterpretation.selectStatement,
@@ -150,33 +162,26 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //						jdbcParameterBindings
 //				);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
-		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		// NOTE : multi-valued parameter expansion does not veto caching of the plan.
+		//		Each translation expands the parameters into a copy of the
+		//		`DomainParameterXref`, and the translations are kept per number of
+		//		values - see `#withExpandedSqmInterpretation`.
 	}
 
 	private static boolean containsCollectionFetches(QueryOptions queryOptions) {
@@ -285,61 +290,165 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
-
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			return withExpandedSqmInterpretation( executionContext, context, interpreter );
+		}
 
-		if ( localCopy == null ) {
+		// The translation depends on the presence of limit and offset, and possibly on parameter bindings
+		// which were inlined.  Rather than translating again whenever an execution is not compatible with
+		// the single previous translation, which would thrash e.g. when alternating between the first and
+		// later pages of a paginated query, we keep a few variants and use the first compatible one.
+		// The lock options need not be considered here, since they are part of the key of the plan.
+		CompatibleSqmInterpretation compatible = findCompatible( cacheableSqmInterpretations, executionContext );
+		if ( compatible == null ) {
+			// NOTE : VERY IMPORTANT - intentional double-lock checking
+			//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
+			//		to protect access.  However, synchronized is much simpler here.  We will verify
+			// 		during throughput testing whether this is an issue and consider changes then
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
+				compatible = findCompatible( cacheableSqmInterpretations, executionContext );
+				if ( compatible == null ) {
+					final CacheableSqmInterpretation sqmInterpretation = buildCacheableSqmInterpretation(
 							sqm,
 							domainParameterXref,
 							executionContext
 					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					compatible = new CompatibleSqmInterpretation( sqmInterpretation, sqmInterpretation.firstParameterBindings );
+					sqmInterpretation.firstParameterBindings = null;
+					cacheableSqmInterpretations = withVariant( cacheableSqmInterpretations, sqmInterpretation );
 				}
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
+
+		return interpreter.interpret( context, executionContext, compatible.sqmInterpretation, compatible.jdbcParameterBindings );
+	}
+
+	private <T, X> T withExpandedSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		// The translation depends on the number of values of the multi-valued parameters, which are
+		// expanded into one parameter per value.  If in clause parameter padding is enabled, a
+		// translation which expands the parameters within in lists only is shared by all numbers of
+		// values with the same padded number of values, otherwise by the exact number of values.
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final QueryParameterBindings bindings = executionContext.getQueryParameterBindings();
+		final boolean inClauseParameterPaddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+
+		CompatibleSqmInterpretation compatible = null;
+		if ( inClauseParameterPaddingEnabled ) {
+			compatible = findCompatible(
+					expandedSqmInterpretations.get( expansionKey( bindings, true, factory ) ),
+					executionContext
+			);
+		}
+		if ( compatible == null ) {
+			compatible = findCompatible(
+					expandedSqmInterpretations.get( expansionKey( bindings, false, factory ) ),
+					executionContext
+			);
+		}
+
+		if ( compatible == null ) {
+			final CacheableSqmInterpretation sqmInterpretation = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref,
+					executionContext
+			);
+			compatible = new CompatibleSqmInterpretation( sqmInterpretation, sqmInterpretation.firstParameterBindings );
+			sqmInterpretation.firstParameterBindings = null;
+			final boolean padded = inClauseParameterPaddingEnabled
+					&& isExpandedInInListsOnly( sqmInterpretation.getDomainParameterXref(), bindings );
+			final ExpansionKey expansionKey = expansionKey( bindings, padded, factory );
+			if ( expandedSqmInterpretations.size() < MAX_EXPANDED_INTERPRETATIONS
+					|| expandedSqmInterpretations.containsKey( expansionKey ) ) {
+				expandedSqmInterpretations.merge(
+						expansionKey,
+						new CacheableSqmInterpretation[] { sqmInterpretation },
+						(variants, unused) -> withVariant( variants, sqmInterpretation )
 				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
 			}
 		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		return interpreter.interpret( context, executionContext, compatible.sqmInterpretation, compatible.jdbcParameterBindings );
+	}
+
+	/**
+	 * Find the first of the given translations which is compatible with the given execution.
+	 *
+	 * @return The translation along with the parameter bindings of the execution, or {@code null}
+	 */
+	private CompatibleSqmInterpretation findCompatible(
+			CacheableSqmInterpretation[] variants,
+			DomainQueryExecutionContext executionContext) {
+		if ( variants == null ) {
+			return null;
+		}
+		for ( CacheableSqmInterpretation variant : variants ) {
+			JdbcParameterBindings jdbcParameterBindings = null;
+			// If the translation depends on parameter bindings, we need them to check compatibility
+			if ( variant.jdbcSelect.dependsOnParameterBindings() ) {
+				jdbcParameterBindings = createJdbcParameterBindings( variant, executionContext );
+			}
+			if ( variant.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				if ( jdbcParameterBindings == null ) {
+					jdbcParameterBindings = createJdbcParameterBindings( variant, executionContext );
+				}
+				return new CompatibleSqmInterpretation( variant, jdbcParameterBindings );
+			}
 		}
+		return null;
+	}
+
+	/**
+	 * Add a translation to the given variants, evicting the oldest one if there are too many.
+	 * The array is never modified, since it is read without synchronization.
+	 */
+	private static CacheableSqmInterpretation[] withVariant(
+			CacheableSqmInterpretation[] variants,
+			CacheableSqmInterpretation sqmInterpretation) {
+		if ( variants == null || variants.length == 0 ) {
+			return new CacheableSqmInterpretation[] { sqmInterpretation };
+		}
+		final int retained = Math.min( variants.length, MAX_VARIANTS - 1 );
+		final CacheableSqmInterpretation[] newVariants = new CacheableSqmInterpretation[retained + 1];
+		System.arraycopy( variants, variants.length - retained, newVariants, 0, retained );
+		newVariants[retained] = sqmInterpretation;
+		return newVariants;
+	}
+
+	private ExpansionKey expansionKey(QueryParameterBindings bindings, boolean padded, SessionFactoryImplementor factory) {
+		final int[] valueCounts = new int[domainParameterXref.getQueryParameterCount()];
+		int i = 0;
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( queryParameter );
+			if ( binding.isMultiValued() ) {
+				final int valueCount = binding.getBindValues().size();
+				valueCounts[i] = padded ? determineInListExpansionCount( valueCount, factory ) : valueCount;
+			}
+			else {
+				valueCounts[i] = -1;
+			}
+			i++;
+		}
+		return new ExpansionKey( valueCounts, padded );
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	private static boolean isExpandedInInListsOnly(DomainParameterXref domainParameterXref, QueryParameterBindings bindings) {
+		for ( Map.Entry<QueryParameterImplementor<?>, List<SqmParameter<?>>> entry : domainParameterXref.getQueryParameters().entrySet() ) {
+			if ( bindings.getBinding( entry.getKey() ).isMultiValued() ) {
+				for ( SqmParameter<?> sqmParameter : entry.getValue() ) {
+					if ( !domainParameterXref.isInListExpansion( sqmParameter ) ) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -352,14 +461,17 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
-		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings );
+		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings, session.getLoadQueryInfluencers() );
 		return jdbcParameterBindings;
 	}
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref planDomainParameterXref,
 			DomainQueryExecutionContext executionContext) {
+		// the expansions of multi-valued parameters are specific to this translation, and
+		// must not leak into the xref of the plan, which is shared by concurrent executions
+		final DomainParameterXref domainParameterXref = planDomainParameterXref.copy();
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
@@ -410,12 +522,25 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	private static class CompatibleSqmInterpretation {
+		private final CacheableSqmInterpretation sqmInterpretation;
+		private final JdbcParameterBindings jdbcParameterBindings;
+
+		private CompatibleSqmInterpretation(
+				CacheableSqmInterpretation sqmInterpretation,
+				JdbcParameterBindings jdbcParameterBindings) {
+			this.sqmInterpretation = sqmInterpretation;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -428,6 +553,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -436,12 +562,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -459,6 +587,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -475,4 +607,34 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			this.firstParameterBindings = firstParameterBindings;
 		}
 	}
+
+	private static class ExpansionKey {
+		private final int[] valueCounts;
+		private final boolean padded;
+		private final int hashCode;
+
+		private ExpansionKey(int[] valueCounts, boolean padded) {
+			this.valueCounts = valueCounts;
+			this.padded = padded;
+			this.hashCode = 31 * Arrays.hashCode( valueCounts ) + Boolean.hashCode( padded );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof ExpansionKey ) ) {
+				return false;
+			}
+			final ExpansionKey that = (ExpansionKey) o;
+			return padded == that.padded
+					&& Arrays.equals( valueCounts, that.valueCounts );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
 }
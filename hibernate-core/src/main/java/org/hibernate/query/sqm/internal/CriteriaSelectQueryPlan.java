@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.results.internal.TupleMetadata;
+
+/**
+ * A {@link SelectQueryPlan} for a criteria query, which is shared with all other criteria
+ * queries of the same {@linkplain SqmStatementStructure structure}.
+ * <p>
+ * The plan is built from a copy of the criteria tree, and thus refers to parameters of its
+ * own.  On execution, the parameter bindings of the executing query are exposed to the plan
+ * by matching the parameters by position.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+
+	/**
+	 * Resolve the shared plan for the given criteria query from the interpretation cache,
+	 * building it if necessary.
+	 *
+	 * @param planBuilder Builds a plan for the given statement and parameter cross-reference
+	 *
+	 * @return The plan, or {@code null} if the plan of the query cannot be shared
+	 */
+	public static <R> SelectQueryPlan<R> resolve(
+			SqmSelectStatement<R> statement,
+			SqmInterpretationsKey.InterpretationsKeySource keySource,
+			TupleMetadata tupleMetadata,
+			SharedSessionContractImplementor session,
+			BiFunction<SqmSelectStatement<R>, DomainParameterXref, SelectQueryPlan<R>> planBuilder) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final QueryInterpretationCache interpretationCache = factory.getQueryEngine().getInterpretationCache();
+		if ( !factory.getSessionFactoryOptions().isCriteriaPlanCacheEnabled()
+				|| !interpretationCache.isEnabled()
+				// the tuple metadata refers to the selections of the query itself
+				|| tupleMetadata != null ) {
+			return null;
+		}
+
+		final SqmStatementStructure structure = SqmStatementStructure.from( statement );
+		if ( structure == null ) {
+			return null;
+		}
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.createInterpretationsKey( keySource, structure );
+
+		final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+				cacheKey,
+				() -> {
+					// never refer to the tree of the application, which it is free to mutate
+					final SqmSelectStatement<R> copy = statement.copy( SqmCopyContext.simpleContext() );
+					final SqmStatementStructure copyStructure = SqmStatementStructure.from( copy );
+					return new CriteriaSelectQueryPlan<>(
+							planBuilder.apply( copy, DomainParameterXref.from( copy ) ),
+							copyStructure.getParameters()
+					);
+				}
+		);
+		return ( (CriteriaSelectQueryPlan<R>) plan ).forParameters( structure.getParameters() );
+	}
+
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	private CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	private SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != queryParameters.get( i ) ) {
+				if ( parameterMapping == null ) {
+					parameterMapping = new IdentityHashMap<>( parameters.size() );
+				}
+				parameterMapping.put( parameters.get( i ), queryParameters.get( i ) );
+			}
+		}
+		if ( parameterMapping == null ) {
+			return delegate;
+		}
+		return new ParameterMappingSelectQueryPlan<>( delegate, parameterMapping );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static class ParameterMappingSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private ParameterMappingSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( mapParameters( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(
+				ScrollMode scrollMode,
+				DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, mapParameters( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext mapParameters(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new ParameterMappingBindings(
+					executionContext.getQueryParameterBindings(),
+					parameterMapping
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Exposes the bindings of the parameters of the executing query as bindings of
+	 * the corresponding parameters of the plan.
+	 */
+	private static class ParameterMappingBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private ParameterMappingBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
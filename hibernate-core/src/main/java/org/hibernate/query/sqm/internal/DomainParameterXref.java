@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.hibernate.HibernateException;
@@ -150,6 +151,7 @@ public class DomainParameterXref {
 	private final Map<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Set<SqmParameter<?>> inListExpansions;
 
 	/**
 	 * @implSpec Constructor is defined as public for
@@ -242,6 +244,26 @@ public class DomainParameterXref {
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
 	}
 
+	/**
+	 * Mark the given parameter as expanded within an in list, where its expansions may be
+	 * padded with additional expansions
+	 *
+	 * @see SqmUtil#determineInListExpansionCount
+	 */
+	public void markInListExpansion(SqmParameter<?> sqmParameter) {
+		if ( inListExpansions == null ) {
+			inListExpansions = Collections.newSetFromMap( new IdentityHashMap<>() );
+		}
+		inListExpansions.add( sqmParameter );
+	}
+
+	/**
+	 * Was the given parameter expanded within an in list?
+	 */
+	public boolean isInListExpansion(SqmParameter<?> sqmParameter) {
+		return inListExpansions != null && inListExpansions.contains( sqmParameter );
+	}
+
 	public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		if ( expansions == null ) {
 			return Collections.emptyList();
@@ -263,5 +285,8 @@ public class DomainParameterXref {
 		}
 
 		expansions.clear();
+		if ( inListExpansions != null ) {
+			inListExpansions.clear();
+		}
 	}
 }
@@ -0,0 +1,368 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.SortOrder;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAliasedNodeRef;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
+
+import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
+
+/**
+ * Executes an SQM select query for a {@link KeyedPage}.
+ * <p>
+ * A copy of the query is made, which additionally selects the expressions of the
+ * {@code order by} clause, from which the keys of the results are read, and is
+ * restricted to the results following the key of the page.  If all sort directions
+ * are the same, the restriction is a tuple comparison like {@code (a, b) > (?, ?)},
+ * which is emulated in an index friendly way on databases which do not support it,
+ * otherwise its logical expansion {@code a > ? or a = ? and b < ?}.
+ * <p>
+ * The values of the key of an HQL query are bound to named parameters, so the keyed
+ * statement is kept in the interpretation cache, and its plan is translated once for
+ * the first page and once for the following pages.  The copy of a criteria query is
+ * itself a criteria query, so its plan is cached by structure if
+ * {@value org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED} is enabled.
+ */
+public final class KeyBasedPagination {
+
+	private KeyBasedPagination() {
+	}
+
+	public static <R> KeyedResultList<R> list(
+			String hql,
+			SqmSelectStatement<?> sqm,
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings parameterBindings,
+			QueryOptions queryOptions,
+			Class<?> resultType,
+			KeyedPage page,
+			SharedSessionContractImplementor session) {
+		if ( Tuple.class.equals( resultType ) ) {
+			throw new IllegalQueryOperationException( "Key-based pagination is not supported for Tuple queries" );
+		}
+		if ( queryOptions.getTupleTransformer() != null || queryOptions.getResultListTransformer() != null ) {
+			throw new IllegalQueryOperationException( "Key-based pagination is not supported for queries with result transformers" );
+		}
+		final SqmQueryPart<?> queryPart = sqm.getQueryPart();
+		if ( !( queryPart instanceof SqmQuerySpec<?> ) ) {
+			throw new IllegalQueryOperationException( "Key-based pagination is not supported for set operations" );
+		}
+		if ( queryPart.getOrderByClause() == null || queryPart.getOrderByClause().getSortSpecifications().isEmpty() ) {
+			throw new IllegalQueryOperationException( "Key-based pagination requires an 'order by' clause" );
+		}
+		if ( !page.isFirst() ) {
+			final int keySize = queryPart.getOrderByClause().getSortSpecifications().size();
+			if ( page.getKey().size() != keySize ) {
+				throw new IllegalArgumentException(
+						"Key of page has " + page.getKey().size() + " values, but the query is ordered by "
+								+ keySize + " expressions"
+				);
+			}
+			if ( page.getKey().contains( null ) ) {
+				throw new IllegalArgumentException( "Key-based pagination does not support null key values" );
+			}
+		}
+
+		final boolean criteria = sqm.getQuerySource() == SqmQuerySource.CRITERIA
+				|| CRITERIA_HQL_STRING.equals( hql );
+		final SqmSelectionQueryImpl<Object[]> keyedQuery;
+		if ( criteria ) {
+			keyedQuery = new SqmSelectionQueryImpl<>( createKeyedStatement( sqm, page ), Object[].class, session );
+		}
+		else {
+			// the keyed statement of an HQL query does not depend on the values of the key,
+			// which are bound to parameters, so it is interpreted once per query and kind of
+			// page, and its plan is cached like the plan of any other HQL query
+			final String keyedHql = keyedQueryString( hql, resultType, page );
+			final HqlInterpretation hqlInterpretation = session.getFactory().getQueryEngine()
+					.getInterpretationCache()
+					.resolveHqlInterpretation( keyedHql, Object[].class, s -> createKeyedStatement( sqm, page ) );
+			keyedQuery = new SqmSelectionQueryImpl<>( keyedHql, hqlInterpretation, Object[].class, session );
+		}
+		bindParameters( domainParameterXref, parameterBindings, keyedQuery );
+		applyOptions( queryOptions, keyedQuery.getQueryOptions() );
+		if ( !page.isFirst() && sqm.getQuerySource() != SqmQuerySource.CRITERIA ) {
+			final List<Object> key = page.getKey();
+			for ( int i = 0; i < key.size(); i++ ) {
+				keyedQuery.setParameter( keyParameterName( i ), key.get( i ) );
+			}
+		}
+		keyedQuery.setMaxResults( page.getSize() );
+
+		final int selectionCount = sqm.getQuerySpec().getSelectClause().getSelections().size();
+		// like the results of the query itself, a single selection is returned as an
+		// array only if arrays were requested
+		final boolean unwrapSingleSelection = selectionCount == 1 && !Object[].class.equals( resultType );
+		final List<Object[]> rows = keyedQuery.list();
+		final List<R> resultList = new ArrayList<>( rows.size() );
+		final List<List<Object>> keyList = new ArrayList<>( rows.size() );
+		for ( Object[] row : rows ) {
+			//noinspection unchecked
+			resultList.add( (R) ( unwrapSingleSelection ? row[0] : Arrays.copyOf( row, selectionCount ) ) );
+			keyList.add( Arrays.asList( Arrays.copyOfRange( row, selectionCount, row.length ) ) );
+		}
+		return new KeyedResultList<>( resultList, keyList, page );
+	}
+
+	/**
+	 * The key of the interpretation of the keyed statement of an HQL query.  The statement
+	 * depends on the query and on its result type, from which the select clause and the
+	 * keys are derived, and on whether the page is restricted by a key.
+	 */
+	private static String keyedQueryString(String hql, Class<?> resultType, KeyedPage page) {
+		return ( page.isFirst() ? "<keyed first page of " : "<keyed next page of " )
+				+ resultType.getName() + ">" + hql;
+	}
+
+	private static SqmSelectStatement<Object[]> createKeyedStatement(SqmSelectStatement<?> sqm, KeyedPage page) {
+		//noinspection unchecked
+		final SqmSelectStatement<Object[]> keyedSqm = (SqmSelectStatement<Object[]>)
+				sqm.copy( SqmCopyContext.simpleContext() );
+		final SqmQuerySpec<Object[]> querySpec = keyedSqm.getQuerySpec();
+		final NodeBuilder nodeBuilder = keyedSqm.nodeBuilder();
+		final List<SqmSelection<?>> selections = querySpec.getSelectClause().getSelections();
+		for ( SqmSelection<?> selection : selections ) {
+			if ( selection.getSelectableNode() instanceof SqmDynamicInstantiation<?> ) {
+				throw new IllegalQueryOperationException( "Key-based pagination is not supported for dynamic instantiations" );
+			}
+		}
+
+		final List<SqmSortSpecification> sortSpecifications = querySpec.getOrderByClause().getSortSpecifications();
+		final List<SqmExpression<?>> keyExpressions = new ArrayList<>( sortSpecifications.size() );
+		for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+			keyExpressions.add( resolveKeyExpression( sortSpecification.getSortExpression(), selections ) );
+		}
+		for ( SqmExpression<?> keyExpression : keyExpressions ) {
+			querySpec.getSelectClause().addSelection( new SqmSelection<>( keyExpression, nodeBuilder ) );
+		}
+
+		querySpec.setOffsetExpression( null );
+		querySpec.setFetchExpression( null );
+
+		if ( !page.isFirst() ) {
+			querySpec.applyPredicate( createKeyPredicate( keyedSqm, sortSpecifications, keyExpressions, page.getKey() ) );
+		}
+		return keyedSqm;
+	}
+
+	private static SqmExpression<?> resolveKeyExpression(SqmExpression<?> sortExpression, List<SqmSelection<?>> selections) {
+		if ( sortExpression instanceof SqmAliasedNodeRef ) {
+			// a reference to an item of the select clause, by alias or position
+			final SqmSelectableNode<?> selectableNode =
+					selections.get( ( (SqmAliasedNodeRef) sortExpression ).getPosition() - 1 ).getSelectableNode();
+			if ( !( selectableNode instanceof SqmExpression<?> ) ) {
+				throw new IllegalQueryOperationException( "Key-based pagination requires 'order by' expressions" );
+			}
+			return (SqmExpression<?>) selectableNode;
+		}
+		return sortExpression;
+	}
+
+	private static SqmPredicate createKeyPredicate(
+			SqmSelectStatement<?> keyedSqm,
+			List<SqmSortSpecification> sortSpecifications,
+			List<SqmExpression<?>> keyExpressions,
+			List<Object> key) {
+		final NodeBuilder nodeBuilder = keyedSqm.nodeBuilder();
+		final List<SqmExpression<?>> keyValues = new ArrayList<>( key.size() );
+		boolean sameSortOrder = true;
+		for ( int i = 0; i < key.size(); i++ ) {
+			keyValues.add( keyValue( keyedSqm, i, key.get( i ), keyExpressions.get( i ) ) );
+			sameSortOrder = sameSortOrder
+					&& sortSpecifications.get( i ).getSortOrder() == sortSpecifications.get( 0 ).getSortOrder();
+		}
+
+		if ( sameSortOrder ) {
+			final ComparisonOperator operator = comparisonOperator( sortSpecifications.get( 0 ) );
+			if ( keyExpressions.size() == 1 ) {
+				return new SqmComparisonPredicate( keyExpressions.get( 0 ), operator, keyValues.get( 0 ), nodeBuilder );
+			}
+			return new SqmComparisonPredicate(
+					new SqmTuple<>( new ArrayList<>( keyExpressions ), nodeBuilder ),
+					operator,
+					new SqmTuple<>( keyValues, nodeBuilder ),
+					nodeBuilder
+			);
+		}
+
+		// the sort directions differ, so expand the comparison:
+		// a > ?1 or a = ?1 and ( b < ?2 or b = ?2 and ( ... ) )
+		final int last = keyExpressions.size() - 1;
+		SqmPredicate predicate = new SqmComparisonPredicate(
+				keyExpressions.get( last ),
+				comparisonOperator( sortSpecifications.get( last ) ),
+				keyValues.get( last ),
+				nodeBuilder
+		);
+		for ( int i = last - 1; i >= 0; i-- ) {
+			predicate = new SqmJunctionPredicate(
+					Predicate.BooleanOperator.OR,
+					new SqmComparisonPredicate(
+							keyExpressions.get( i ),
+							comparisonOperator( sortSpecifications.get( i ) ),
+							keyValues.get( i ),
+							nodeBuilder
+					),
+					new SqmJunctionPredicate(
+							Predicate.BooleanOperator.AND,
+							new SqmComparisonPredicate(
+									keyExpressions.get( i ),
+									ComparisonOperator.EQUAL,
+									keyValue( keyedSqm, i, key.get( i ), keyExpressions.get( i ) ),
+									nodeBuilder
+							),
+							predicate,
+							nodeBuilder
+					),
+					nodeBuilder
+			);
+		}
+		return predicate;
+	}
+
+	private static ComparisonOperator comparisonOperator(SqmSortSpecification sortSpecification) {
+		return sortSpecification.getSortOrder() == SortOrder.DESCENDING
+				? ComparisonOperator.LESS_THAN
+				: ComparisonOperator.GREATER_THAN;
+	}
+
+	/**
+	 * Create a parameter for a value of the key.  The parameters of criteria queries are
+	 * collected from their tree, and bound by the query, whereas the parameters of HQL
+	 * queries are registered with the statement, and bound by name.  These names are not
+	 * valid identifiers, so they cannot clash with those of the query.
+	 */
+	@SuppressWarnings("unchecked")
+	private static SqmExpression<?> keyValue(
+			SqmSelectStatement<?> keyedSqm,
+			int position,
+			Object value,
+			SqmExpression<?> keyExpression) {
+		if ( keyedSqm.getQuerySource() == SqmQuerySource.CRITERIA ) {
+			return (SqmExpression<?>) keyedSqm.nodeBuilder().value( value, (SqmExpression<Object>) keyExpression );
+		}
+		final SqmNamedParameter<?> parameter =
+				new SqmNamedParameter<>( keyParameterName( position ), false, keyedSqm.nodeBuilder() );
+		keyedSqm.addParameter( parameter );
+		return parameter;
+	}
+
+	private static String keyParameterName(int position) {
+		return "key." + position;
+	}
+
+	/**
+	 * Bind the arguments of the parameters of the original query to the parameters of the
+	 * keyed query.  The parameters of HQL queries are copied, so they are matched by name
+	 * or position, whereas criteria parameters keep their identity.  Values of criteria
+	 * queries are bound by the keyed query itself.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void bindParameters(
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings parameterBindings,
+			SqmSelectionQueryImpl<?> keyedQuery) {
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( parameter instanceof ValueBindJpaCriteriaParameter<?> ) {
+				continue;
+			}
+			final QueryParameterBinding<Object> binding = (QueryParameterBinding<Object>) parameterBindings.getBinding( parameter );
+			if ( !binding.isBound() ) {
+				continue;
+			}
+
+			final QueryParameterImplementor<?> keyedParameter;
+			if ( parameter instanceof JpaCriteriaParameter<?> ) {
+				keyedParameter = parameter;
+			}
+			else if ( parameter.getName() != null ) {
+				keyedParameter = keyedQuery.getParameterMetadata().getQueryParameter( parameter.getName() );
+			}
+			else {
+				keyedParameter = keyedQuery.getParameterMetadata().getQueryParameter( parameter.getPosition() );
+			}
+			final QueryParameterBinding<Object> keyedBinding = (QueryParameterBinding<Object>)
+					keyedQuery.getQueryParameterBindings().getBinding( keyedParameter );
+			final BindableType bindType = binding.getBindType();
+			if ( binding.isMultiValued() ) {
+				keyedBinding.setBindValues( binding.getBindValues(), bindType );
+			}
+			else {
+				keyedBinding.setBindValue( binding.getBindValue(), bindType );
+			}
+		}
+	}
+
+	private static void applyOptions(QueryOptions queryOptions, MutableQueryOptions keyedQueryOptions) {
+		if ( queryOptions.getFlushMode() != null ) {
+			keyedQueryOptions.setFlushMode( queryOptions.getFlushMode() );
+		}
+		if ( queryOptions.getTimeout() != null ) {
+			keyedQueryOptions.setTimeout( queryOptions.getTimeout() );
+		}
+		if ( queryOptions.getFetchSize() != null ) {
+			keyedQueryOptions.setFetchSize( queryOptions.getFetchSize() );
+		}
+		if ( queryOptions.isReadOnly() != null ) {
+			keyedQueryOptions.setReadOnly( queryOptions.isReadOnly() );
+		}
+		if ( queryOptions.isResultCachingEnabled() != null ) {
+			keyedQueryOptions.setResultCachingEnabled( queryOptions.isResultCachingEnabled() );
+		}
+		keyedQueryOptions.setResultCacheRegionName( queryOptions.getResultCacheRegionName() );
+		keyedQueryOptions.setCacheRetrieveMode( queryOptions.getCacheRetrieveMode() );
+		keyedQueryOptions.setCacheStoreMode( queryOptions.getCacheStoreMode() );
+		if ( queryOptions.getComment() != null ) {
+			keyedQueryOptions.setComment( queryOptions.getComment() );
+		}
+		LockOptions.copy( queryOptions.getLockOptions(), keyedQueryOptions.getLockOptions() );
+		if ( queryOptions.getAppliedGraph() != null && queryOptions.getAppliedGraph().getSemantic() != null ) {
+			keyedQueryOptions.applyGraph(
+					queryOptions.getAppliedGraph().getGraph(),
+					queryOptions.getAppliedGraph().getSemantic()
+			);
+		}
+	}
+}
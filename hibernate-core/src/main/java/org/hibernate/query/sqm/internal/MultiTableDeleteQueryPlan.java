@@ -33,6 +33,7 @@ public class MultiTableDeleteQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
-		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref, executionContext );
+		// the strategy expands multi-valued parameters into the xref, which is shared when the plan is cached
+		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -32,6 +32,7 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
-		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref, executionContext );
+		// the strategy expands multi-valued parameters into the xref, which is shared when the plan is cached
+		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -33,6 +33,7 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
-		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
+		// the strategy expands multi-valued parameters into the xref, which is shared when the plan is cached
+		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -56,6 +56,8 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
@@ -625,6 +627,21 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		verifySelect();
+		return KeyBasedPagination.list(
+				getQueryString(),
+				(SqmSelectStatement<?>) getSqmStatement(),
+				getDomainParameterXref(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getResultType(),
+				page,
+				getSession()
+		);
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
@@ -637,26 +654,49 @@ public class QuerySqmImpl<R>
 					this::buildSelectQueryPlan
 			);
 		}
-		else {
-			return buildSelectQueryPlan();
+		else if ( CRITERIA_HQL_STRING.equals( getQueryString() ) ) {
+			final SelectQueryPlan<R> criteriaPlan = CriteriaSelectQueryPlan.resolve(
+					(SqmSelectStatement<R>) getSqmStatement(),
+					this,
+					tupleMetadata,
+					getSession(),
+					this::buildSelectQueryPlan
+			);
+			if ( criteriaPlan != null ) {
+				return criteriaPlan;
+			}
 		}
+		return buildSelectQueryPlan();
 	}
 
 	private SelectQueryPlan<R> buildSelectQueryPlan() {
+		return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					getResultType(),
+					getQueryOptions(),
+					domainParameterXref
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -666,7 +706,8 @@ public class QuerySqmImpl<R>
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
 					getResultType(),
-					getQueryOptions()
+					getQueryOptions(),
+					domainParameterXref
 			);
 		}
 
@@ -676,11 +717,12 @@ public class QuerySqmImpl<R>
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
 			Class<T> resultType,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			DomainParameterXref domainParameterXref) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
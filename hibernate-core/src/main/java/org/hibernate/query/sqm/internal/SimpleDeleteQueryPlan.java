@@ -6,33 +6,24 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.List;
-import java.util.Map;
-
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.spi.NavigablePath;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.Expression;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -48,9 +39,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryDelete jdbcDelete;
-	private SqmTranslation<DeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<DeleteStatement, JdbcOperationQueryDelete> interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -63,12 +52,14 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcOperationQueryDelete> createDeleteTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslator<DeleteStatement> createDeleteTranslator(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
 		final SqmTranslatorFactory translatorFactory = queryEngine.getSqmTranslatorFactory();
-		final SqmTranslator<DeleteStatement> translator = translatorFactory.createSimpleDeleteTranslator(
+		return translatorFactory.createSimpleDeleteTranslator(
 				sqmDelete,
 				executionContext.getQueryOptions(),
 				domainParameterXref,
@@ -76,16 +67,6 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				executionContext.getSession().getLoadQueryInfluencers(),
 				factory
 		);
-
-		sqmInterpretation = translator.translate();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
 	}
 
 	@Override
@@ -94,43 +75,32 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcOperationQueryDelete> deleteTranslator = null;
-		if ( jdbcDelete == null ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				sqmInterpretation.getFromClauseAccess()::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcDelete != null
-				&& ! jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
 
-		if ( deleteTranslator != null ) {
-			jdbcDelete = deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		CacheableSqmMutationInterpretation<DeleteStatement, JdbcOperationQueryDelete> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindingsForReuse( executionContext );
 		}
-		else {
-			jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( jdbcParameterBindings == null ) {
+			localCopy = CacheableSqmMutationInterpretation.build(
+					domainParameterXref,
+					executionContext,
+					this::createDeleteTranslator,
+					(sessionFactory, deleteStatement) -> sessionFactory.getJdbcServices()
+							.getJdbcEnvironment()
+							.getSqlAstTranslatorFactory()
+							.buildDeleteTranslator( sessionFactory, deleteStatement )
+			);
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
+		final SqmTranslation<DeleteStatement> sqmInterpretation = localCopy.getSqmTranslation();
 
 		final boolean missingRestriction = sqmDelete.getWhereClause() == null
 				|| sqmDelete.getWhereClause().getPredicate() == null;
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert localCopy.getJdbcParamsXref().isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -156,10 +126,12 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 							attributeMapping,
 							sqmInterpretation.getSqlAst().getTargetTable()
 					);
+					// the translation may be shared by concurrent executions, so never resolve
+					// the expression through its (stateful) SqlExpressionResolver
 					final Expression fkTargetColumnExpression = MappingModelCreationHelper.buildColumnReferenceExpression(
 							tableGroup,
 							fkDescriptor.getTargetPart(),
-							sqmInterpretation.getSqlExpressionResolver(),
+							null,
 							factory
 					);
 					matchingIdSubQuery.getSelectClause().addSqlSelection( new SqlSelectionImpl( 1, 0, fkTargetColumnExpression ) );
@@ -177,7 +149,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcDelete,
+				localCopy.getJdbcOperation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
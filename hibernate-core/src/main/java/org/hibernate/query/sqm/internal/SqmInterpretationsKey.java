@@ -6,17 +6,28 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 
-import static java.lang.Boolean.TRUE;
-
 /**
  * @author Steve Ebersole
  */
@@ -38,89 +49,203 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		}
 
 		return new SqmInterpretationsKey(
+				keySource.getQueryString(),
 				keySource.getQueryString(),
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
-				keySource.getQueryOptions().getResultListTransformer()
+				keySource.getQueryOptions().getResultListTransformer(),
+				filterShape( keySource.getLoadQueryInfluencers() ),
+				graphShape( keySource.getQueryOptions().getAppliedGraph() )
 		);
 	}
-	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(InterpretationsKeySource keySource) {
-		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
+	/**
+	 * Create a key for the plan of a criteria query, which is shared by all criteria
+	 * queries with the same {@linkplain SqmStatementStructure structure}.
+	 */
+	public static SqmInterpretationsKey createInterpretationsKey(
+			InterpretationsKeySource keySource,
+			SqmStatementStructure structure) {
+		return new SqmInterpretationsKey(
+				structure.getStructure(),
+				keySource.getQueryString(),
+				keySource.getResultType(),
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer(),
+				filterShape( keySource.getLoadQueryInfluencers() ),
+				graphShape( keySource.getQueryOptions().getAppliedGraph() )
+		);
+	}
+
+	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
+			// Criteria-based plans are only cached by structure, see SqmStatementStructure
+			//		- this works with HQL because the parameters are part of the query
+			//			string; with Criteria, they are not.
 			return false;
 		}
+		// multi-valued parameters do not veto caching: the plan keeps a translation per
+		// number of values, see ConcreteSqmSelectQueryPlan#withExpandedSqmInterpretation
+		return true;
+	}
 
-		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
-			// At the moment we cannot cache query plan if there is filter enabled.
-			return false;
+	/**
+	 * Describes the enabled filters as far as they influence the SQL, that is, their names and the
+	 * number of JDBC parameters of each filter parameter.  The arguments of the filter parameters
+	 * are bound anew on each execution of a cached plan.
+	 *
+	 * @see org.hibernate.internal.FilterJdbcParameter#getBinding(LoadQueryInfluencers)
+	 */
+	private static String filterShape(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		// this also validates the enabled filters, as the translation would
+		final Map<String, Filter> enabledFilters = loadQueryInfluencers.getEnabledFilters();
+		final StringBuilder shape = new StringBuilder();
+		for ( Map.Entry<String, Filter> entry : new TreeMap<>( enabledFilters ).entrySet() ) {
+			final FilterImpl filter = (FilterImpl) entry.getValue();
+			final FilterDefinition filterDefinition = filter.getFilterDefinition();
+			shape.append( entry.getKey() ).append( '(' );
+			for ( String parameterName : new TreeSet<>( filter.getParameters().keySet() ) ) {
+				final Object argument = filter.getParameter( parameterName );
+				final JdbcMapping jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+				shape.append( parameterName );
+				if ( argument instanceof Iterable<?>
+						&& !jdbcMapping.getJavaTypeDescriptor().isInstance( argument ) ) {
+					int size = 0;
+					for ( Object ignored : (Iterable<?>) argument ) {
+						size++;
+					}
+					shape.append( '[' ).append( size ).append( ']' );
+				}
+				shape.append( ',' );
+			}
+			shape.append( ')' );
 		}
+		return shape.toString();
+	}
 
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
-			return false;
+	/**
+	 * Describes the applied entity graph, if any, as far as it influences the SQL, that is, its
+	 * semantic and its attribute nodes, in a canonical order.  The graph itself may be mutated
+	 * by the application after the plan has been cached.
+	 */
+	private static String graphShape(AppliedGraph appliedGraph) {
+		if ( appliedGraph.getSemantic() == null || appliedGraph.getGraph() == null ) {
+			return null;
 		}
+		final StringBuilder shape = new StringBuilder( appliedGraph.getSemantic().name() ).append( ' ' );
+		appendGraphShape( appliedGraph.getGraph(), shape );
+		return shape.toString();
+	}
 
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
+	private static void appendGraphShape(GraphImplementor<?> graph, StringBuilder shape) {
+		shape.append( graph.getGraphedType().getTypeName() ).append( '{' );
+		final List<AttributeNodeImplementor<?>> attributeNodes = new ArrayList<>( graph.getAttributeNodeImplementors() );
+		attributeNodes.sort( Comparator.comparing( AttributeNodeImplementor::getAttributeName ) );
+		for ( AttributeNodeImplementor<?> attributeNode : attributeNodes ) {
+			shape.append( attributeNode.getAttributeName() );
+			appendSubGraphShapes( attributeNode.getSubGraphMap(), '(', ')', shape );
+			appendSubGraphShapes( attributeNode.getKeySubGraphMap(), '[', ']', shape );
+			shape.append( ',' );
 		}
+		shape.append( '}' );
+	}
 
-		return true;
+	private static void appendSubGraphShapes(
+			Map<? extends Class<?>, ? extends GraphImplementor<?>> subGraphs,
+			char open,
+			char close,
+			StringBuilder shape) {
+		if ( subGraphs.isEmpty() ) {
+			return;
+		}
+		final TreeMap<String, GraphImplementor<?>> sorted = new TreeMap<>();
+		subGraphs.forEach( (type, subGraph) -> sorted.put( type.getName(), subGraph ) );
+		shape.append( open );
+		for ( GraphImplementor<?> subGraph : sorted.values() ) {
+			appendGraphShape( subGraph, shape );
+		}
+		shape.append( close );
 	}
 
+	/**
+	 * Create a key for the plan of an update, delete or insert statement.  The plan keeps its
+	 * translation across executions, as long as it is compatible with their parameter bindings.
+	 */
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+		if ( ! isCacheable( keyDetails ) ) {
+			return null;
+		}
+		if ( keyDetails.hasMultiValuedParameterBindingsChecker().get() ) {
+			// unlike the select plans, the non-select plans keep a single translation,
+			// which depends on the number of values of the multi-valued parameters
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				keyDetails.getQueryString(),
+				keyDetails.getQueryString(),
+				null,
+				// a non-select statement is never locked
+				LockOptions.NONE,
+				null,
+				null,
+				filterShape( keyDetails.getLoadQueryInfluencers() ),
+				null
+		);
 	}
 
 
 	private final String query;
+	private final String queryString;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
+	private final String filterShape;
+	private final String graphShape;
 
 	private SqmInterpretationsKey(
 			String query,
+			String queryString,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
-			ResultListTransformer resultListTransformer) {
+			ResultListTransformer resultListTransformer,
+			String filterShape,
+			String graphShape) {
 		this.query = query;
+		this.queryString = queryString;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
+		this.filterShape = filterShape;
+		this.graphShape = graphShape;
 	}
 
 	@Override
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				queryString,
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
 				tupleTransformer,
-				resultListTransformer
+				resultListTransformer,
+				filterShape,
+				graphShape
 		);
 	}
 
 	@Override
 	public String getQueryString() {
-		return query;
+		return queryString;
 	}
 
 	@Override
@@ -137,7 +262,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				&& areEqual( filterShape, that.filterShape )
+				&& areEqual( graphShape, that.graphShape );
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
@@ -34,6 +34,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
@@ -335,6 +337,20 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return resolveQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	public KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		return KeyBasedPagination.list(
+				getQueryString(),
+				sqm,
+				getDomainParameterXref(),
+				getQueryParameterBindings(),
+				getQueryOptions(),
+				getResultType(),
+				page,
+				getSession()
+		);
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
@@ -347,26 +363,49 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 					this::buildQueryPlan
 			);
 		}
-		else {
-			return buildQueryPlan();
+		else if ( CRITERIA_HQL_STRING.equals( getQueryString() ) ) {
+			final SelectQueryPlan<R> criteriaPlan = CriteriaSelectQueryPlan.resolve(
+					sqm,
+					this,
+					tupleMetadata,
+					getSession(),
+					this::buildQueryPlan
+			);
+			if ( criteriaPlan != null ) {
+				return criteriaPlan;
+			}
 		}
+		return buildQueryPlan();
 	}
 
 	private SelectQueryPlan<R> buildQueryPlan() {
+		return buildQueryPlan( sqm, getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<?>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<?>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedQueryPlan( concreteSqmStatements );
+			return buildAggregatedQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteQueryPlan(
+					concreteSqmStatements[0],
+					getResultType(),
+					getQueryOptions(),
+					domainParameterXref
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -376,7 +415,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan(
 					concreteSqmStatements[i],
 					getResultType(),
-					getQueryOptions()
+					getQueryOptions(),
+					domainParameterXref
 			);
 		}
 
@@ -386,11 +426,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
 			Class<T> resultType,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			DomainParameterXref domainParameterXref) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
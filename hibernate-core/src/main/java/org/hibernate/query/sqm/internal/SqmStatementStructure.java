@@ -0,0 +1,998 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.query.sqm.function.SelfRenderingSqmWindowFunction;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
+
+/**
+ * The structure of a criteria query, which is everything about its {@linkplain SqmStatement SQM tree}
+ * that influences its translation to SQL, except for the values bound to its parameters.
+ * <p>
+ * Two criteria queries with equal structures may share a query plan.  Their parameters are then matched
+ * by position: {@link #getParameters()} lists the distinct parameters of the tree in the order in which
+ * they are first encountered, and this order is part of the structure.
+ * <p>
+ * Unlike {@link SqmStatement#toHqlString()}, determining the structure does not depend on the identity
+ * of the nodes, nor does it assign aliases to them.
+ */
+public final class SqmStatementStructure {
+
+	/**
+	 * Determine the structure of the given criteria statement.
+	 *
+	 * @return The structure, or {@code null} if the statement uses features which are not
+	 * (yet) accounted for, such as common table expressions or derived roots.
+	 */
+	public static SqmStatementStructure from(SqmStatement<?> statement) {
+		final StructureRenderer renderer = new StructureRenderer( statement );
+		statement.accept( renderer );
+		if ( !renderer.supported ) {
+			return null;
+		}
+		return new SqmStatementStructure( renderer.sb.toString(), renderer.parameters );
+	}
+
+	private final String structure;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	private SqmStatementStructure(String structure, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * A textual rendering of the structure, which is suitable as a cache key.  Since it
+	 * starts with {@link QuerySqmImpl#CRITERIA_HQL_STRING}, it is never a valid HQL query.
+	 */
+	public String getStructure() {
+		return structure;
+	}
+
+	/**
+	 * The distinct parameters of the statement, in the order in which they are first encountered.
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		return structure.equals( ( (SqmStatementStructure) o ).structure );
+	}
+
+	@Override
+	public int hashCode() {
+		return structure.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+
+	/**
+	 * Renders each node as its type followed by the attributes relevant for translation and,
+	 * in parentheses, its children.  From-elements are numbered in the order in which they are
+	 * encountered, and paths refer to them by that number instead of by alias.
+	 */
+	private static class StructureRenderer extends BaseSemanticQueryWalker {
+		private final StringBuilder sb = new StringBuilder( CRITERIA_HQL_STRING );
+		private final Map<SqmPath<?>, Integer> fromOrdinals = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+		private List<JpaCriteriaParameter<?>> parameters = Collections.emptyList();
+		private boolean supported = true;
+
+		private StructureRenderer(SqmStatement<?> statement) {
+			super( statement.nodeBuilder().getServiceRegistry() );
+		}
+
+		private void open(Object node, Object... attributes) {
+			sb.append( ' ' ).append( node.getClass().getSimpleName() );
+			if ( node instanceof SqmTypedNode<?> ) {
+				final JavaType<?> javaType = ( (SqmTypedNode<?>) node ).getNodeJavaType();
+				if ( javaType != null ) {
+					sb.append( '<' ).append( javaType.getJavaTypeClass().getName() ).append( '>' );
+				}
+			}
+			for ( Object attribute : attributes ) {
+				sb.append( ':' ).append( attribute );
+			}
+			sb.append( '(' );
+		}
+
+		private <T> T close(T node) {
+			sb.append( ')' );
+			return node;
+		}
+
+		private <T extends SqmVisitableNode> T leaf(T node) {
+			open( node );
+			node.appendHqlString( sb );
+			return close( node );
+		}
+
+		private Object unsupported(Object node) {
+			supported = false;
+			return node;
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// from-elements and paths
+
+		private void defineFrom(SqmFrom<?, ?> from) {
+			final int ordinal = fromOrdinals.size();
+			fromOrdinals.put( from, ordinal );
+			sb.append( ' ' ).append( from.getClass().getSimpleName() ).append( '#' ).append( ordinal );
+			if ( from instanceof SqmRoot<?> ) {
+				sb.append( ':' ).append( ( (SqmRoot<?>) from ).getEntityName() );
+			}
+			else if ( from instanceof SqmEntityJoin<?> ) {
+				sb.append( ':' ).append( ( (SqmEntityJoin<?>) from ).getEntityName() );
+			}
+			else if ( from instanceof SqmCrossJoin<?> ) {
+				sb.append( ':' ).append( ( (SqmCrossJoin<?>) from ).getEntityName() );
+			}
+			else {
+				sb.append( ':' ).append( from.getReferencedPathSource().getPathName() );
+			}
+			if ( from instanceof SqmJoin<?, ?> ) {
+				sb.append( ':' ).append( ( (SqmJoin<?, ?>) from ).getSqmJoinType() );
+			}
+			if ( from instanceof SqmAttributeJoin<?, ?> && ( (SqmAttributeJoin<?, ?>) from ).isFetched() ) {
+				sb.append( ":fetch" );
+			}
+			if ( from instanceof SqmTreatedPath<?, ?> ) {
+				sb.append( ":treat " ).append( ( (SqmTreatedPath<?, ?>) from ).getTreatTarget().getHibernateEntityName() );
+				appendPath( ( (SqmTreatedPath<?, ?>) from ).getWrappedPath() );
+			}
+			if ( from.getLhs() != null ) {
+				appendPath( from.getLhs() );
+			}
+			if ( from.isCorrelated() ) {
+				sb.append( ":correlates" );
+				appendPath( from.getCorrelationParent() );
+			}
+			sb.append( '(' );
+		}
+
+		private Object visitFrom(SqmFrom<?, ?> from) {
+			defineFrom( from );
+			from.visitReusablePaths( path -> path.accept( this ) );
+			from.visitSqmJoins( sqmJoin -> sqmJoin.accept( this ) );
+			if ( from instanceof SqmEntityJoin<?> && ( (SqmEntityJoin<?>) from ).getJoinPredicate() != null ) {
+				( (SqmEntityJoin<?>) from ).getJoinPredicate().accept( this );
+			}
+			else if ( from instanceof SqmAttributeJoin<?, ?> && ( (SqmAttributeJoin<?, ?>) from ).getJoinPredicate() != null ) {
+				( (SqmAttributeJoin<?, ?>) from ).getJoinPredicate().accept( this );
+			}
+			for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+				treat.accept( this );
+			}
+			return close( from );
+		}
+
+		private void appendPath(SqmPath<?> path) {
+			final Integer ordinal = fromOrdinals.get( path );
+			if ( ordinal != null ) {
+				sb.append( " #" ).append( ordinal );
+			}
+			else if ( path instanceof SqmFrom<?, ?> ) {
+				// a from-element which is not part of the from clause, e.g. a treat
+				close( visitFrom( (SqmFrom<?, ?>) path ) );
+			}
+			else {
+				sb.append( ' ' ).append( path.getClass().getSimpleName() ).append( '[' );
+				if ( path instanceof SqmTreatedPath<?, ?> ) {
+					sb.append( "treat " ).append( ( (SqmTreatedPath<?, ?>) path ).getTreatTarget().getHibernateEntityName() );
+					appendPath( ( (SqmTreatedPath<?, ?>) path ).getWrappedPath() );
+				}
+				else {
+					if ( path.getLhs() != null ) {
+						appendPath( path.getLhs() );
+					}
+					sb.append( ' ' ).append( path.getReferencedPathSource().getPathName() );
+				}
+				sb.append( ']' );
+			}
+		}
+
+		private Object visitPath(SqmPath<?> path) {
+			appendPath( path );
+			return path;
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			return visitFrom( sqmRoot );
+		}
+
+		@Override
+		public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+			return unsupported( sqmRoot );
+		}
+
+		@Override
+		public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+			return unsupported( sqmRoot );
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			return visitFrom( joinedFromElement );
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			return visitFrom( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			return visitFrom( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			return visitFrom( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+			return unsupported( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+			return unsupported( joinedFromElement );
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			return visitFrom( correlation );
+		}
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> path) {
+			return visitPath( path );
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath expression) {
+			return visitPath( expression );
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			return visitPath( sqmTreatedPath );
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			open( path );
+			appendPath( path );
+			path.getSelectorExpression().accept( this );
+			return close( path );
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			open( path, path.getFunctionName() );
+			appendPath( path );
+			return close( path );
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			open( path, path.getFunctionName() );
+			appendPath( path );
+			return close( path );
+		}
+
+		@Override
+		public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+			open( fkExpression );
+			appendPath( fkExpression.getToOnePath() );
+			return close( fkExpression );
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> binding) {
+			open( binding );
+			appendPath( binding.getMapPath() );
+			return close( binding );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// statements and clauses
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			open( statement );
+			super.visitSelectStatement( statement );
+			return close( statement );
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			open( statement, statement.isVersioned() );
+			super.visitUpdateStatement( statement );
+			return close( statement );
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			open( setClause );
+			super.visitSetClause( setClause );
+			return close( setClause );
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment<?> assignment) {
+			open( assignment );
+			super.visitAssignment( assignment );
+			return close( assignment );
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			open( statement );
+			super.visitInsertSelectStatement( statement );
+			return close( statement );
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			open( statement );
+			super.visitInsertValuesStatement( statement );
+			return close( statement );
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			open( values );
+			super.visitValues( values );
+			return close( values );
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			open( statement );
+			super.visitDeleteStatement( statement );
+			return close( statement );
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			return unsupported( sqmCteStatement );
+		}
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			open( queryGroup, queryGroup.getSetOperator(), queryGroup.getFetchClauseType() );
+			super.visitQueryGroup( queryGroup );
+			return close( queryGroup );
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			open( querySpec, querySpec.getFetchClauseType() );
+			super.visitQuerySpec( querySpec );
+			return close( querySpec );
+		}
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			open( fromClause );
+			super.visitFromClause( fromClause );
+			return close( fromClause );
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			if ( selectClause == null ) {
+				return null;
+			}
+			open( selectClause, selectClause.isDistinct() );
+			super.visitSelectClause( selectClause );
+			return close( selectClause );
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			open( selection, selection.getAlias() );
+			super.visitSelection( selection );
+			return close( selection );
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			open( selection, selection.getJavaType() );
+			super.visitJpaCompoundSelection( selection );
+			return close( selection );
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			open(
+					sqmDynamicInstantiation,
+					sqmDynamicInstantiation.getInstantiationTarget().getNature(),
+					sqmDynamicInstantiation.getInstantiationTarget().getJavaType()
+			);
+			for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+				open( argument, argument.getAlias() );
+				argument.getSelectableNode().accept( this );
+				close( argument );
+			}
+			return close( sqmDynamicInstantiation );
+		}
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			if ( whereClause == null || whereClause.getPredicate() == null ) {
+				return null;
+			}
+			open( whereClause );
+			super.visitWhereClause( whereClause );
+			return close( whereClause );
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			if ( groupByClauseExpressions == null || groupByClauseExpressions.isEmpty() ) {
+				return groupByClauseExpressions;
+			}
+			sb.append( " group by(" );
+			super.visitGroupByClause( groupByClauseExpressions );
+			return close( groupByClauseExpressions );
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate sqmPredicate) {
+			if ( sqmPredicate == null ) {
+				return null;
+			}
+			sb.append( " having(" );
+			super.visitHavingClause( sqmPredicate );
+			return close( sqmPredicate );
+		}
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			if ( orderByClause == null ) {
+				return null;
+			}
+			open( orderByClause );
+			super.visitOrderByClause( orderByClause );
+			return close( orderByClause );
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			open( sortSpecification, sortSpecification.getSortOrder(), sortSpecification.getNullPrecedence() );
+			super.visitSortSpecification( sortSpecification );
+			return close( sortSpecification );
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			if ( expression == null ) {
+				return null;
+			}
+			sb.append( " offset(" );
+			super.visitOffsetExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			if ( expression == null ) {
+				return null;
+			}
+			sb.append( " fetch(" );
+			super.visitFetchExpression( expression );
+			return close( expression );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// predicates
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitGroupedPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+			open( predicate, predicate.getOperator(), predicate.isNegated() );
+			super.visitJunctionPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			open( predicate, predicate.getSqmOperator(), predicate.isNegated() );
+			super.visitComparisonPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitIsEmptyPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitIsNullPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitBetweenPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			open( predicate, predicate.isNegated(), predicate.isCaseSensitive(), predicate.getEscapeCharacter() != null );
+			super.visitLikePredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitMemberOfPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitNegatedPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitInListPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitInSubQueryPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitBooleanExpressionPredicate( predicate );
+			return close( predicate );
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate predicate) {
+			open( predicate, predicate.isNegated() );
+			super.visitExistsPredicate( predicate );
+			return close( predicate );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// parameters
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer ordinal = parameterOrdinals.get( expression );
+			if ( ordinal == null ) {
+				ordinal = parameterOrdinals.size();
+				parameterOrdinals.put( expression, ordinal );
+				if ( parameters.isEmpty() ) {
+					parameters = new ArrayList<>();
+				}
+				parameters.add( expression );
+			}
+			open( expression, ordinal, expression.allowsMultiValuedBinding() );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			// parameters of HQL queries are bound by position or name, not by identity
+			return unsupported( expression );
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported( expression );
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// expressions
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			return leaf( literal );
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			return leaf( sqmEnumLiteral );
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			return leaf( sqmFieldLiteral );
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			return leaf( expression );
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue expression) {
+			return leaf( expression );
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			return leaf( extractUnit );
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			return leaf( sqmFormat );
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> castTarget) {
+			return leaf( castTarget );
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			return leaf( trimSpecification );
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			return leaf( sqmStar );
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			return leaf( sqmCollate );
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			return leaf( durationUnit );
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			open( expression );
+			super.visitParameterizedEntityTypeExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> sqmExpression) {
+			open( sqmExpression, sqmExpression.getOperation() );
+			super.visitUnaryOperationExpression( sqmExpression );
+			return close( sqmExpression );
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			open( expression, expression.getOperator() );
+			super.visitBinaryArithmeticExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> sqmFunction) {
+			if ( sqmFunction instanceof SelfRenderingSqmWindowFunction<?> ) {
+				final SelfRenderingSqmWindowFunction<?> windowFunction = (SelfRenderingSqmWindowFunction<?>) sqmFunction;
+				open(
+						sqmFunction,
+						sqmFunction.getFunctionName(),
+						windowFunction.getRespectNulls(),
+						windowFunction.getFromFirst()
+				);
+			}
+			else {
+				open( sqmFunction, sqmFunction.getFunctionName() );
+			}
+			super.visitFunction( sqmFunction );
+			return close( sqmFunction );
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			open( expression, expression.getModifier() );
+			super.visitModifiedSubQueryExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			open( sqmCoalesce );
+			super.visitCoalesce( sqmCoalesce );
+			return close( sqmCoalesce );
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			open( toDuration );
+			super.visitToDuration( toDuration );
+			return close( toDuration );
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit byUnit) {
+			open( byUnit );
+			super.visitByUnit( byUnit );
+			return close( byUnit );
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			open( distinct );
+			super.visitDistinct( distinct );
+			return close( distinct );
+		}
+
+		@Override
+		public Object visitOver(SqmOver<?> over) {
+			open( over, over.getMode(), over.getStartKind(), over.getEndKind(), over.getExclusion() );
+			// separate the partitions from the order list, the remaining children are optional
+			over.getExpression().accept( this );
+			sb.append( " partition(" );
+			for ( SqmExpression<?> partition : over.getPartitions() ) {
+				partition.accept( this );
+			}
+			sb.append( ") order(" );
+			for ( SqmSortSpecification sortSpecification : over.getOrderList() ) {
+				visitSortSpecification( sortSpecification );
+			}
+			sb.append( ") start(" );
+			if ( over.getStartExpression() != null ) {
+				over.getStartExpression().accept( this );
+			}
+			sb.append( ") end(" );
+			if ( over.getEndExpression() != null ) {
+				over.getEndExpression().accept( this );
+			}
+			sb.append( ')' );
+			return close( over );
+		}
+
+		@Override
+		public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+			open( sqmOverflow, sqmOverflow.isWithCount(), sqmOverflow.getFillerExpression() != null );
+			super.visitOverflow( sqmOverflow );
+			return close( sqmOverflow );
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			open( function );
+			super.visitPluralAttributeSizeFunction( function );
+			return close( function );
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			open( sqmTuple );
+			super.visitTuple( sqmTuple );
+			return close( sqmTuple );
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			open( expression );
+			super.visitSubQueryExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			open( expression, expression.getOtherwise() != null );
+			super.visitSimpleCaseExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			open( expression, expression.getOtherwise() != null );
+			super.visitSearchedCaseExpression( expression );
+			return close( expression );
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			open( sqmAny );
+			super.visitAny( sqmAny );
+			return close( sqmAny );
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			open( sqmEvery );
+			super.visitEvery( sqmEvery );
+			return close( sqmEvery );
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			open( sqmSummarization, sqmSummarization.getKind() );
+			super.visitSummarization( sqmSummarization );
+			return close( sqmSummarization );
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			return unsupported( namedClass );
+		}
+	}
+}
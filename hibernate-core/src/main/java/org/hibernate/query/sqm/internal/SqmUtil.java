@@ -20,6 +20,7 @@ import java.util.function.Function;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
@@ -107,6 +108,27 @@ public class SqmUtil {
 		);
 	}
 
+	/**
+	 * Determine the number of parameters to which a multi-valued parameter with the given
+	 * number of bind values is expanded within an in list.
+	 * <p>
+	 * If {@linkplain org.hibernate.boot.spi.SessionFactoryOptions#inClauseParameterPaddingEnabled()
+	 * in clause parameter padding} is enabled, this is the padded number of values, and the
+	 * additional parameters repeat the last value.  The translation of the query is then the
+	 * same for all numbers of values with the same padded number, and can be shared by them.
+	 */
+	public static int determineInListExpansionCount(int bindValueCount, SessionFactoryImplementor factory) {
+		// keep in sync with AbstractSqlAstTranslator#visitInListPredicate
+		if ( bindValueCount > 2 && factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			final int paddedCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+			if ( inExprLimit <= 0 || paddedCount <= inExprLimit ) {
+				return paddedCount;
+			}
+		}
+		return bindValueCount;
+	}
+
 	public static Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> generateJdbcParamsXref(
 			DomainParameterXref domainParameterXref,
 			JdbcParameterBySqmParameterAccess jdbcParameterBySqmParameterAccess) {
@@ -240,15 +262,17 @@ public class SqmUtil {
 					final Iterator<?> valueItr = bindValues.iterator();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
+					Object bindValue = null;
 					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 						final List<JdbcParameter> jdbcParams = jdbcParamsBinds.get( i );
+						bindValue = valueItr.next();
 						createValueBindings(
 								jdbcParameterBindings,
 								queryParam,
 								domainParamBinding,
 								parameterType,
 								jdbcParams,
-								valueItr.next(),
+								bindValue,
 								tableGroupLocator,
 								session
 						);
@@ -256,19 +280,23 @@ public class SqmUtil {
 
 					// an then one for each of the expansions
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition++ );
+					// an in list may have been padded with additional expansions, which repeat the last value
+					// see #determineInListExpansionCount
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( int expansionPosition = 0; expansionPosition < expansions.size(); expansionPosition++ ) {
+						final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition );
 						final List<List<JdbcParameter>> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							List<JdbcParameter> expansionJdbcParams = jdbcParamBinds.get( i );
+							if ( valueItr.hasNext() ) {
+								bindValue = valueItr.next();
+							}
 							createValueBindings(
 									jdbcParameterBindings,
 									queryParam, domainParamBinding,
 									parameterType,
 									expansionJdbcParams,
-									valueItr.next(),
+									bindValue,
 									tableGroupLocator,
 									session
 							);
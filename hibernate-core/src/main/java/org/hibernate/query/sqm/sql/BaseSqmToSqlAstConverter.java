@@ -136,6 +136,7 @@ import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpr
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.mutation.internal.SqmInsertStrategyHelper;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
@@ -6957,6 +6958,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		);
 
 		try {
+			domainParameterXref.markInListExpansion( sqmParameter );
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
 			iterator.next();
 			while ( iterator.hasNext() ) {
@@ -6966,6 +6968,17 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
+			// pad the in list with expansions which are bound to the last value, so that the
+			// translation can be shared by all bindings with the same padded number of values
+			final int expansionCount = SqmUtil.determineInListExpansionCount(
+					domainParamBinding.getBindValues().size(),
+					creationContext.getSessionFactory()
+			);
+			for ( int i = inListPredicate.getListExpressions().size(); i < expansionCount; i++ ) {
+				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+			}
 			return inListPredicate;
 		}
 		finally {
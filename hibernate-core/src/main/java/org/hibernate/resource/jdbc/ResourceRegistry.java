@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,38 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Is statement caching enabled for this registry?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default boolean isStatementCachingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Take an idle, previously {@linkplain #registerCacheable cached} statement prepared
+	 * for the given SQL.  The returned statement still needs to be {@linkplain #register registered}.
+	 *
+	 * @param sql The SQL the statement was prepared for.
+	 *
+	 * @return The cached statement, or {@code null} if there is none.
+	 */
+	default PreparedStatement getCachedStatement(String sql) {
+		return null;
+	}
+
+	/**
+	 * Mark a registered statement as cacheable: instead of being closed when
+	 * {@linkplain #release(Statement) released}, it is kept open for reuse, until
+	 * {@link #releaseResources()} is called.
+	 *
+	 * @param statement The statement, which must have been registered already.
+	 * @param sql The SQL the statement was prepared for.
+	 */
+	default void registerCacheable(PreparedStatement statement, String sql) {
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p>
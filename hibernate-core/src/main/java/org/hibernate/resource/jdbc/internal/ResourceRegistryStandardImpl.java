@@ -9,11 +9,14 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -34,6 +37,11 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
  *
+ * Most sessions only have one statement with one result set open at a
+ * time, so the statements and result sets are tracked by a
+ * {@link ResultSetsTrackingContainer}, which keeps the first of them in
+ * fields and only allocates maps when more of them are open.
+ *
  * @author Steve Ebersole
  * @author Sanne Grinovero
  */
@@ -41,18 +49,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( ResourceRegistryStandardImpl.class );
 
-	// Dummy value to associate with an Object in the backing Map when we use it as a set:
-	private static final Object PRESENT = new Object();
-
-	//Used instead of Collections.EMPTY_SET to avoid polymorphic calls on xref;
-	//Also, uses an HashMap as it were an HashSet, as technically we just need the Set semantics
-	//but in this case the overhead of HashSet is not negligible.
-	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
-
 	private final JdbcObserver jdbcObserver;
 
-	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
-	private HashMap<ResultSet,Object> unassociatedResultSets;
+	private final ResultSetsTrackingContainer xref = new ResultSetsTrackingContainer();
+	private ResultSetsSet unassociatedResultSets;
 
 	private ArrayList<Blob> blobs;
 	private ArrayList<Clob> clobs;
@@ -60,30 +60,44 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final int statementCacheSize;
+	//Statements to be kept open for reuse when released, both in use and idle
+	private HashMap<Statement,CachedStatement> cacheableStatements;
+	//Released cacheable statements, by SQL, least recently released first
+	private LinkedHashMap<String,CachedStatement> idleStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	/**
+	 * @param jdbcObserver The observer, may be {@code null}
+	 * @param statementCacheSize The maximum number of idle statements kept open for reuse,
+	 * or {@code 0} to disable statement caching
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
-				|| hasRegistered( unassociatedResultSets )
+		return !xref.isEmpty()
+				|| unassociatedResultSets != null && !unassociatedResultSets.isEmpty()
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
 				|| hasRegistered( nclobs );
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
 
-		HashMap<ResultSet,Object> previousValue = xref.putIfAbsent( statement, EMPTY );
-		if ( previousValue != null ) {
+		if ( !xref.registerStatement( statement ) ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
 
@@ -96,7 +110,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
-		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
+		final ResultSetsSet resultSets = xref.remove( statement );
 		if ( resultSets != null ) {
 			closeAll( resultSets );
 		}
@@ -106,11 +120,109 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
-
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
+
+		final CachedStatement cachedStatement = cacheableStatements == null
+				? null
+				: cacheableStatements.get( statement );
+		if ( cachedStatement == null ) {
+			close( statement );
+		}
+		else if ( !makeIdle( cachedStatement ) ) {
+			cacheableStatements.remove( statement );
+			close( statement );
+		}
+	}
+
+	@Override
+	public boolean isStatementCachingEnabled() {
+		return statementCacheSize > 0;
+	}
+
+	@Override
+	public PreparedStatement getCachedStatement(String sql) {
+		if ( idleStatements == null ) {
+			return null;
+		}
+
+		final CachedStatement cachedStatement = idleStatements.remove( sql );
+		if ( cachedStatement == null ) {
+			return null;
+		}
+
+		try {
+			if ( !cachedStatement.statement.isClosed() ) {
+				return cachedStatement.statement;
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reuse JDBC statement [%s]", e.getMessage() );
+		}
+		cacheableStatements.remove( cachedStatement.statement );
+		return null;
+	}
+
+	@Override
+	public void registerCacheable(PreparedStatement statement, String sql) {
+		if ( statementCacheSize <= 0 ) {
+			return;
+		}
+
+		final int fetchSize;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to cache JDBC statement [%s]", e.getMessage() );
+			return;
+		}
+
+		if ( cacheableStatements == null ) {
+			cacheableStatements = new HashMap<>();
+			idleStatements = new LinkedHashMap<>();
+		}
+		cacheableStatements.put( statement, new CachedStatement( statement, sql, fetchSize ) );
+	}
+
+	private boolean makeIdle(CachedStatement cachedStatement) {
+		final PreparedStatement statement = cachedStatement.statement;
+		try {
+			statement.clearParameters();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cachedStatement.fetchSize ) {
+				statement.setFetchSize( cachedStatement.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		// only one idle statement is kept per SQL
+		final CachedStatement replaced = idleStatements.put( cachedStatement.sql, cachedStatement );
+		if ( replaced != null ) {
+			evict( replaced );
+		}
+		if ( idleStatements.size() > statementCacheSize ) {
+			final Iterator<CachedStatement> iterator = idleStatements.values().iterator();
+			final CachedStatement leastRecentlyUsed = iterator.next();
+			iterator.remove();
+			evict( leastRecentlyUsed );
+		}
+		return true;
+	}
+
+	private void evict(CachedStatement cachedStatement) {
+		cacheableStatements.remove( cachedStatement.statement );
+		close( cachedStatement.statement );
 	}
 
 	@Override
@@ -126,12 +238,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			final HashMap<ResultSet,Object> resultSets = xref.get( statement );
+			final ResultSetsSet resultSets = xref.get( statement );
 			if ( resultSets == null ) {
 				log.unregisteredStatement();
 			}
 			else {
-				resultSets.remove( resultSet );
+				resultSets.removeResultSet( resultSet );
 				if ( resultSets.isEmpty() ) {
 					try {
 						if ( statement.isClosed() ) {
@@ -145,23 +257,22 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		else {
-			final Object removed = unassociatedResultSets == null ? null : unassociatedResultSets.remove( resultSet );
-			if ( removed == null ) {
+			if ( unassociatedResultSets == null || !unassociatedResultSets.removeResultSet( resultSet ) ) {
 				log.unregisteredResultSetWithoutStatement();
 			}
 		}
 		close( resultSet );
 	}
 
-	private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
+	private static void closeAll(final ResultSetsSet resultSets) {
 		if ( resultSets == null ) {
 			return;
 		}
-		resultSets.forEach( (resultSet, o) -> close( resultSet ) );
+		resultSets.forEachResultSet( ResourceRegistryStandardImpl::close );
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private static void releaseXref(final Statement s, final ResultSetsSet r) {
 		closeAll( r );
 		close( s );
 	}
@@ -229,25 +340,22 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			HashMap<ResultSet,Object> resultSets = xref.get( statement );
+			ResultSetsSet resultSets = xref.get( statement );
 
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
 			if ( resultSets == null ) {
 				log.debug( "ResultSet statement was not registered (on register)" );
+				xref.registerStatement( statement );
+				resultSets = xref.get( statement );
 			}
-
-			if ( resultSets == null || resultSets == EMPTY ) {
-				resultSets = new HashMap<>();
-				xref.put( statement, resultSets );
-			}
-			resultSets.put( resultSet, PRESENT );
+			resultSets.storeResultSet( resultSet );
 		}
 		else {
 			if ( unassociatedResultSets == null ) {
-				this.unassociatedResultSets = new HashMap<ResultSet,Object>();
+				this.unassociatedResultSets = new ResultSetsSet();
 			}
-			unassociatedResultSets.put( resultSet, PRESENT );
+			unassociatedResultSets.storeResultSet( resultSet );
 		}
 	}
 
@@ -335,6 +443,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( idleStatements != null ) {
+			idleStatements.forEach( (sql, cachedStatement) -> close( cachedStatement.statement ) );
+			idleStatements.clear();
+			cacheableStatements.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -375,11 +489,19 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
-	private boolean hasRegistered(final HashMap resource) {
+	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
 
-	private boolean hasRegistered(final ArrayList resource) {
-		return resource != null && !resource.isEmpty();
+	private static final class CachedStatement {
+		private final PreparedStatement statement;
+		private final String sql;
+		private final int fetchSize;
+
+		private CachedStatement(PreparedStatement statement, String sql, int fetchSize) {
+			this.statement = statement;
+			this.sql = sql;
+			this.fetchSize = fetchSize;
+		}
 	}
 }
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * The set of the {@link ResultSet}s of a statement tracked by {@link ResourceRegistryStandardImpl}.
+ * <p>
+ * A statement rarely has more than one open result set, so the first one is kept in a field,
+ * and a map is only allocated when more result sets are registered.  The map is used as a set,
+ * since the overhead of a {@link java.util.HashSet} is not negligible.
+ * This class is not threadsafe.
+ */
+final class ResultSetsSet {
+
+	// Dummy value to associate with an Object in the backing Map when we use it as a set:
+	private static final Object PRESENT = new Object();
+
+	//Implementation notes:
+	// # if first is null, then the Map in field 'more' is guaranteed to be empty
+	// # the 'more' Map is lazily initialized, and not made null again once it has been emptied
+	private ResultSet first;
+	private HashMap<ResultSet,Object> more;
+
+	void storeResultSet(ResultSet resultSet) {
+		if ( first == null ) {
+			first = resultSet;
+		}
+		else if ( !isFirst( resultSet ) ) {
+			if ( more == null ) {
+				more = new HashMap<>();
+			}
+			more.put( resultSet, PRESENT );
+		}
+	}
+
+	/**
+	 * @return {@code true} if the result set was part of this set
+	 */
+	boolean removeResultSet(ResultSet resultSet) {
+		if ( first == null ) {
+			return false;
+		}
+		else if ( isFirst( resultSet ) ) {
+			first = null;
+			if ( more != null && !more.isEmpty() ) {
+				final Iterator<ResultSet> iterator = more.keySet().iterator();
+				first = iterator.next();
+				iterator.remove();
+			}
+			return true;
+		}
+		else {
+			return more != null && more.remove( resultSet ) != null;
+		}
+	}
+
+	boolean isEmpty() {
+		return first == null;
+	}
+
+	void forEachResultSet(Consumer<ResultSet> action) {
+		if ( first != null ) {
+			action.accept( first );
+			if ( more != null ) {
+				more.forEach( (resultSet, o) -> action.accept( resultSet ) );
+			}
+		}
+	}
+
+	void clear() {
+		first = null;
+		if ( more != null ) {
+			more.clear();
+		}
+	}
+
+	private boolean isFirst(ResultSet resultSet) {
+		return first == resultSet || first.equals( resultSet );
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Tracks the open statements of a {@link ResourceRegistryStandardImpl}, together with their
+ * {@link ResultSetsSet result sets}.
+ * <p>
+ * Most sessions have a single statement open at a time, so one statement and its result sets are
+ * kept in fields, and the {@link ResultSetsSet} of that slot is reused by the following statements.
+ * A map is only allocated when several statements are open at the same time.
+ * This class is not threadsafe.
+ */
+final class ResultSetsTrackingContainer {
+
+	//Implementation notes:
+	// # firstResultSets is only meaningful while firstStatement is not null, but is kept for reuse
+	// # the 'more' Map is lazily initialized, and not made null again once it has been emptied
+	private Statement firstStatement;
+	private ResultSetsSet firstResultSets;
+	private HashMap<Statement,ResultSetsSet> more;
+
+	/**
+	 * Registers a statement with no result set.
+	 *
+	 * @return {@code false} if the statement was already registered, in which case nothing is changed
+	 */
+	boolean registerStatement(Statement statement) {
+		if ( firstStatement == null ) {
+			if ( more != null && more.containsKey( statement ) ) {
+				return false;
+			}
+			firstStatement = statement;
+			if ( firstResultSets == null ) {
+				firstResultSets = new ResultSetsSet();
+			}
+			else {
+				firstResultSets.clear();
+			}
+			return true;
+		}
+		else if ( isFirst( statement ) ) {
+			return false;
+		}
+		else {
+			if ( more == null ) {
+				more = new HashMap<>();
+			}
+			return more.putIfAbsent( statement, new ResultSetsSet() ) == null;
+		}
+	}
+
+	/**
+	 * @return the result sets of the statement, or {@code null} if the statement is not registered
+	 */
+	ResultSetsSet get(Statement statement) {
+		if ( firstStatement != null && isFirst( statement ) ) {
+			return firstResultSets;
+		}
+		return more == null ? null : more.get( statement );
+	}
+
+	/**
+	 * Unregisters the statement.  The returned result sets may be reused by the next registered
+	 * statement, so they must be processed before any other statement is registered.
+	 *
+	 * @return the result sets of the statement, or {@code null} if the statement was not registered
+	 */
+	ResultSetsSet remove(Statement statement) {
+		if ( firstStatement != null && isFirst( statement ) ) {
+			firstStatement = null;
+			return firstResultSets;
+		}
+		return more == null ? null : more.remove( statement );
+	}
+
+	boolean isEmpty() {
+		return firstStatement == null && ( more == null || more.isEmpty() );
+	}
+
+	void forEach(BiConsumer<Statement,ResultSetsSet> action) {
+		if ( firstStatement != null ) {
+			action.accept( firstStatement, firstResultSets );
+		}
+		if ( more != null ) {
+			more.forEach( action );
+		}
+	}
+
+	void clear() {
+		if ( firstStatement != null ) {
+			firstStatement = null;
+			firstResultSets.clear();
+		}
+		if ( more != null ) {
+			more.clear();
+		}
+	}
+
+	private boolean isFirst(Statement statement) {
+		return firstStatement == statement || firstStatement.equals( statement );
+	}
+}
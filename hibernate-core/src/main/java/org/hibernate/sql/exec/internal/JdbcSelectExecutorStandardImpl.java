@@ -23,6 +23,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsChunk;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -48,6 +49,7 @@ import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesChunkedCacheHit;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -484,13 +486,18 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final CacheMode cacheMode = JdbcExecHelper.resolveCacheMode( executionContext );
 
 		final JdbcValuesMappingProducer mappingProducer = jdbcSelect.getJdbcValuesMappingProducer();
-		final boolean cacheable = queryCacheEnabled && canBeCached
+		// results cached in chunks may be read lazily, and so may be scrolled
+		final boolean chunked = factory.getSessionFactoryOptions().getQueryCacheChunkSize() > 0;
+		final boolean cacheable = queryCacheEnabled && ( canBeCached || chunked )
 				&& executionContext.getQueryOptions().isResultCachingEnabled() == Boolean.TRUE;
 		final QueryKey queryResultsCacheKey;
+		final QueryResultsCache queryCache;
+		final Set<String> querySpaces;
+		final QueryResultsChunk firstChunk;
 
 		if ( cacheable && cacheMode.isGetEnabled() ) {
 			SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Reading Query result cache data per CacheMode#isGetEnabled [%s]", cacheMode.name() );
-			final Set<String> querySpaces = jdbcSelect.getAffectedTableNames();
+			querySpaces = jdbcSelect.getAffectedTableNames();
 			if ( querySpaces == null || querySpaces.size() == 0 ) {
 				SqlExecLogger.SQL_EXEC_LOGGER.tracef( "Unexpected querySpaces is empty" );
 			}
@@ -498,7 +505,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				SqlExecLogger.SQL_EXEC_LOGGER.tracef( "querySpaces is `%s`", querySpaces );
 			}
 
-			final QueryResultsCache queryCache = factory.getCache()
+			queryCache = factory.getCache()
 					.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() );
 
 			queryResultsCacheKey = QueryKey.from(
@@ -508,14 +515,21 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					session
 			);
 
-			cachedResults = queryCache.get(
-					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
-					queryResultsCacheKey,
-					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
-					//		atm we do not even collect querySpaces, but we need to
-					querySpaces,
-					session
-			);
+			if ( chunked ) {
+				firstChunk = queryCache.getChunk( queryResultsCacheKey, 0, querySpaces, session );
+				cachedResults = firstChunk == null ? null : firstChunk.getResults();
+			}
+			else {
+				firstChunk = null;
+				cachedResults = queryCache.get(
+						// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
+						queryResultsCacheKey,
+						// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
+						//		atm we do not even collect querySpaces, but we need to
+						querySpaces,
+						session
+				);
+			}
 
 			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
 			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
@@ -540,6 +554,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					cacheMode.name()
 			);
 			cachedResults = null;
+			queryCache = null;
+			querySpaces = null;
+			firstChunk = null;
 			if ( cacheable && cacheMode.isPutEnabled() ) {
 				queryResultsCacheKey = QueryKey.from(
 						jdbcSelect.getSqlString(),
@@ -585,6 +602,30 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			else {
 				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), factory );
 			}
+			if ( firstChunk != null ) {
+				final JdbcValuesMetadata cachedMetadata = !cachedResults.isEmpty()
+						&& cachedResults.get( 0 ) instanceof JdbcValuesMetadata
+						? (JdbcValuesMetadata) cachedResults.get( 0 )
+						: null;
+				return new JdbcValuesChunkedCacheHit(
+						firstChunk,
+						queryCache,
+						queryResultsCacheKey,
+						querySpaces,
+						jdbcValuesMapping,
+						// if a chunk is missing, the results read from the database are cached anew
+						() -> new JdbcValuesResultSetImpl(
+								resultSetAccess,
+								cacheMode.isPutEnabled() ? queryResultsCacheKey : null,
+								queryIdentifier,
+								executionContext.getQueryOptions(),
+								jdbcValuesMapping,
+								cachedMetadata,
+								executionContext
+						),
+						session
+				);
+			}
 			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
 		}
 	}
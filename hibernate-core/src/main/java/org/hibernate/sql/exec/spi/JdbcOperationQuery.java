@@ -8,6 +8,7 @@ package org.hibernate.sql.exec.spi;
 
 import java.util.Set;
 
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.spi.QueryOptions;
@@ -46,4 +47,22 @@ public interface JdbcOperationQuery extends JdbcOperation {
 			}
 		}
 	}
+
+	/**
+	 * Bind the current arguments of the filter parameters, as given by the enabled filters of the
+	 * {@link LoadQueryInfluencers}.  A cached operation must be bound this way, because the arguments
+	 * may differ from the ones the operation was translated with.
+	 */
+	default void bindFilterJdbcParameters(
+			JdbcParameterBindings jdbcParameterBindings,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( CollectionHelper.isNotEmpty( getFilterJdbcParameters() ) ) {
+			for ( FilterJdbcParameter filterJdbcParameter : getFilterJdbcParameters() ) {
+				jdbcParameterBindings.addBinding(
+						filterJdbcParameter.getParameter(),
+						filterJdbcParameter.getBinding( loadQueryInfluencers )
+				);
+			}
+		}
+	}
 }
@@ -14,5 +14,11 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object[] values);
 
+	/**
+	 * Called when all rows of the results have been read.
+	 */
+	default void registerEndOfResults() {
+	}
+
 	void finishUp(SharedSessionContractImplementor session);
 }
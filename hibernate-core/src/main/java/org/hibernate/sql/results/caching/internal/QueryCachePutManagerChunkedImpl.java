@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * QueryCachePutManager implementation for cases where we will be putting
+ * Query results into the cache in chunks.
+ * <p>
+ * Each chunk is put into the cache as soon as it is full, so the rows read
+ * so far need not be held until the results are exhausted, and the leading
+ * chunks of results which are never read to the end are cached as well.  The
+ * last chunk is only put once all rows have been read, so a reader knows the
+ * results to be complete when it reaches it.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_CHUNK_SIZE
+ */
+public class QueryCachePutManagerChunkedImpl implements QueryCachePutManager {
+	private final QueryResultsCache queryCache;
+	private final StatisticsImplementor statistics;
+	private final QueryKey queryKey;
+	private final String queryIdentifier;
+	private final int chunkSize;
+	private final SharedSessionContractImplementor session;
+
+	private List<Object> chunk;
+	private int chunkIndex;
+	private int rowsInChunk;
+	private boolean endOfResults;
+
+	public QueryCachePutManagerChunkedImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache,
+			int chunkSize,
+			SharedSessionContractImplementor session) {
+		this.queryCache = queryCache;
+		this.statistics = statistics;
+		this.queryKey = queryKey;
+		this.queryIdentifier = queryIdentifier;
+		this.chunkSize = chunkSize;
+		this.session = session;
+		this.chunk = new ArrayList<>( chunkSize + 1 );
+		if ( metadataForCache != null ) {
+			chunk.add( metadataForCache );
+		}
+	}
+
+	@Override
+	public void registerJdbcRow(Object[] values) {
+		chunk.add( Arrays.copyOf( values, values.length ) );
+		if ( ++rowsInChunk == chunkSize ) {
+			putChunk( false );
+			chunk = new ArrayList<>( chunkSize );
+			chunkIndex++;
+			rowsInChunk = 0;
+		}
+	}
+
+	@Override
+	public void registerEndOfResults() {
+		endOfResults = true;
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		if ( endOfResults && chunk != null ) {
+			// the last chunk may well be empty, it still marks the end of the results
+			putChunk( true );
+		}
+		chunk = null;
+	}
+
+	private void putChunk(boolean lastChunk) {
+		final boolean put = queryCache.putChunk( queryKey, chunkIndex, chunk, lastChunk, session );
+		// count one put per result list, just like the hits and misses
+		if ( put && chunkIndex == 0 && statistics.isStatisticsEnabled() ) {
+			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+		}
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.sql.results.jdbc.internal;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -15,7 +16,7 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  * @author Steve Ebersole
  */
 public abstract class AbstractJdbcValues implements JdbcValues {
-	private final QueryCachePutManager queryCachePutManager;
+	private QueryCachePutManager queryCachePutManager;
 
 	public AbstractJdbcValues(QueryCachePutManager queryCachePutManager) {
 		if ( queryCachePutManager == null ) {
@@ -30,6 +31,9 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 		if ( hadRow ) {
 			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
 		}
+		else {
+			queryCachePutManager.registerEndOfResults();
+		}
 		return hadRow;
 	}
 
@@ -37,9 +41,8 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 
 	@Override
 	public boolean previous(RowProcessingState rowProcessingState) {
-		// NOTE : we do not even bother interacting with the query-cache put manager because
-		//		this method is implicitly related to scrolling and caching of scrolled results
-		//		is not supported
+		// NOTE : only results which are read sequentially can be cached
+		stopCaching();
 		return processPrevious( rowProcessingState );
 	}
 
@@ -47,9 +50,8 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 
 	@Override
 	public boolean scroll(int numberOfRows, RowProcessingState rowProcessingState) {
-		// NOTE : we do not even bother interacting with the query-cache put manager because
-		//		this method is implicitly related to scrolling and caching of scrolled results
-		//		is not supported
+		// NOTE : only results which are read sequentially can be cached
+		stopCaching();
 		return processScroll( numberOfRows, rowProcessingState );
 	}
 
@@ -57,14 +59,21 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 
 	@Override
 	public boolean position(int position, RowProcessingState rowProcessingState) {
-		// NOTE : we do not even bother interacting with the query-cache put manager because
-		//		this method is implicitly related to scrolling and caching of scrolled results
-		//		is not supported
+		// NOTE : only results which are read sequentially can be cached
+		stopCaching();
 		return processPosition( position, rowProcessingState );
 	}
 
 	protected abstract boolean processPosition(int position, RowProcessingState rowProcessingState);
 
+	/**
+	 * Stop putting the rows into the query cache, since they are no longer read
+	 * sequentially.  Chunks of the results which were already put remain cached.
+	 */
+	protected void stopCaching() {
+		queryCachePutManager = QueryCachePutManagerDisabledImpl.INSTANCE;
+	}
+
 	@Override
 	public final void finishUp(SharedSessionContractImplementor session) {
 		queryCachePutManager.finishUp( session );
@@ -44,7 +44,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		this( extractData( cachedResults ), resolvedMapping );
 	}
 
-	private static Object[][] extractData(List<?> cachedResults) {
+	static Object[][] extractData(List<?> cachedResults) {
 		if ( CollectionHelper.isEmpty( cachedResults ) ) {
 			return NO_DATA;
 		}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsChunk;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * A JdbcValuesSource implementation for cases where we had a cache hit on the first
+ * chunk of results which are {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_CHUNK_SIZE
+ * cached in chunks}.
+ * <p>
+ * The following chunks are only read from the cache when the results reach them.  If
+ * a chunk is missing or stale, or if the results are not read sequentially, the query
+ * is executed after all, and the results are read from the database from the current
+ * row on.
+ */
+public class JdbcValuesChunkedCacheHit extends AbstractJdbcValues {
+	private final QueryResultsCache queryCache;
+	private final QueryKey queryKey;
+	private final Set<String> querySpaces;
+	private final JdbcValuesMapping resolvedMapping;
+	private final Supplier<JdbcValues> databaseValuesSupplier;
+	private final SharedSessionContractImplementor session;
+	private final long timestamp;
+
+	private Object[][] chunkData;
+	private boolean lastChunk;
+	private int chunkIndex;
+	private int position = -1;
+	private int positionInChunk = -1;
+	private boolean afterLast;
+
+	private JdbcValues databaseValues;
+
+	/**
+	 * @param databaseValuesSupplier Executes the query, for reading the results from the
+	 * database if they cannot be read from the cache
+	 */
+	public JdbcValuesChunkedCacheHit(
+			QueryResultsChunk firstChunk,
+			QueryResultsCache queryCache,
+			QueryKey queryKey,
+			Set<String> querySpaces,
+			JdbcValuesMapping resolvedMapping,
+			Supplier<JdbcValues> databaseValuesSupplier,
+			SharedSessionContractImplementor session) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		this.queryCache = queryCache;
+		this.queryKey = queryKey;
+		this.querySpaces = querySpaces;
+		this.resolvedMapping = resolvedMapping;
+		this.databaseValuesSupplier = databaseValuesSupplier;
+		this.session = session;
+		this.timestamp = firstChunk.getTimestamp();
+		this.chunkData = JdbcValuesCacheHit.extractData( firstChunk.getResults() );
+		this.lastChunk = firstChunk.isLast();
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		if ( databaseValues != null ) {
+			return databaseValues.next( rowProcessingState );
+		}
+		if ( afterLast ) {
+			return false;
+		}
+
+		while ( positionInChunk + 1 >= chunkData.length ) {
+			if ( lastChunk ) {
+				afterLast = true;
+				position++;
+				positionInChunk = chunkData.length;
+				return false;
+			}
+			if ( !readNextChunk() ) {
+				return switchToDatabase( rowProcessingState ).next( rowProcessingState );
+			}
+		}
+
+		position++;
+		positionInChunk++;
+		return true;
+	}
+
+	private boolean readNextChunk() {
+		final QueryResultsChunk chunk = queryCache.getChunk( queryKey, chunkIndex + 1, querySpaces, session );
+		if ( chunk == null || chunk.getTimestamp() != timestamp ) {
+			return false;
+		}
+		chunkIndex++;
+		chunkData = JdbcValuesCacheHit.extractData( chunk.getResults() );
+		lastChunk = chunk.isLast();
+		positionInChunk = -1;
+		return true;
+	}
+
+	/**
+	 * Continue reading the results from the database, from the current row on.
+	 */
+	private JdbcValues switchToDatabase(RowProcessingState rowProcessingState) {
+		if ( databaseValues == null ) {
+			ResultsLogger.RESULTS_MESSAGE_LOGGER.debugf(
+					"Reading query results from the database from position %s on, after chunk %s of the cached results",
+					position,
+					chunkIndex
+			);
+			databaseValues = databaseValuesSupplier.get();
+			// skip the rows which were read from the cache
+			for ( int i = 0; i <= position; i++ ) {
+				if ( !databaseValues.next( rowProcessingState ) ) {
+					break;
+				}
+			}
+			chunkData = null;
+		}
+		return databaseValues;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		return switchToDatabase( rowProcessingState ).previous( rowProcessingState );
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		return switchToDatabase( rowProcessingState ).scroll( numberOfRows, rowProcessingState );
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		return switchToDatabase( rowProcessingState ).position( position, rowProcessingState );
+	}
+
+	@Override
+	public int getPosition() {
+		return databaseValues == null ? position : databaseValues.getPosition();
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return databaseValues == null ? position < 0 : databaseValues.isBeforeFirst( rowProcessingState );
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		switchToDatabase( rowProcessingState ).beforeFirst( rowProcessingState );
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return databaseValues == null
+				? position == 0 && !afterLast
+				: databaseValues.isFirst( rowProcessingState );
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		return switchToDatabase( rowProcessingState ).first( rowProcessingState );
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return databaseValues == null ? afterLast : databaseValues.isAfterLast( rowProcessingState );
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		switchToDatabase( rowProcessingState ).afterLast( rowProcessingState );
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		if ( databaseValues == null ) {
+			if ( afterLast || position < 0 || positionInChunk < chunkData.length - 1 ) {
+				return false;
+			}
+			else if ( lastChunk ) {
+				return true;
+			}
+		}
+		// whether the next chunk is empty is not known
+		return switchToDatabase( rowProcessingState ).isLast( rowProcessingState );
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		return switchToDatabase( rowProcessingState ).last( rowProcessingState );
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return resolvedMapping;
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		if ( databaseValues != null ) {
+			return databaseValues.getCurrentRowValuesArray();
+		}
+		if ( positionInChunk < 0 || positionInChunk >= chunkData.length ) {
+			return null;
+		}
+		return chunkData[positionInChunk];
+	}
+
+	@Override
+	protected void release() {
+		if ( databaseValues != null ) {
+			databaseValues.finishUp( session );
+			databaseValues = null;
+		}
+		chunkData = null;
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+		if ( databaseValues != null ) {
+			databaseValues.setFetchSize( fetchSize );
+		}
+	}
+}
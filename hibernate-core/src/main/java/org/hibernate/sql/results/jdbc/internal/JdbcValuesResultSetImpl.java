@@ -20,6 +20,7 @@ import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerChunkedImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
@@ -67,6 +68,18 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 			final QueryResultsCache queryCache = factory.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+			final int chunkSize = factory.getSessionFactoryOptions().getQueryCacheChunkSize();
+			if ( chunkSize > 0 ) {
+				return new QueryCachePutManagerChunkedImpl(
+						queryCache,
+						factory.getStatistics(),
+						queryCacheKey,
+						queryIdentifier,
+						metadataForCache,
+						chunkSize,
+						executionContext.getSession()
+				);
+			}
 			return new QueryCachePutManagerEnabledImpl(
 					queryCache,
 					factory.getStatistics(),
@@ -140,6 +153,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public void beforeFirst(RowProcessingState rowProcessingState) {
+		stopCaching();
 		try {
 			resultSetAccess.getResultSet().beforeFirst();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -161,6 +175,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public boolean first(RowProcessingState rowProcessingState) {
+		stopCaching();
 		return advance( advanceToFirst() );
 	}
 
@@ -176,6 +191,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public void afterLast(RowProcessingState rowProcessingState) {
+		stopCaching();
 		try {
 			resultSetAccess.getResultSet().afterLast();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -197,6 +213,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public boolean last(RowProcessingState rowProcessingState) {
+		stopCaching();
 		return advance( advanceToLast() );
 	}
 
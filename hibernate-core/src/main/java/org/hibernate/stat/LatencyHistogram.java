@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the latencies of an operation, allowing to determine
+ * the latency at any percentile.
+ * <p>
+ * The latencies are recorded in buckets of exponentially growing width, so
+ * the values reported for percentiles are approximations, within about 6%
+ * of the recorded latencies.
+ *
+ * @see Statistics#getQueryExecutionLatencyHistogram()
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of recorded latencies.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of the recorded latencies.
+	 */
+	long getTotal(TimeUnit unit);
+
+	/**
+	 * The maximum recorded latency.
+	 */
+	long getMax(TimeUnit unit);
+
+	/**
+	 * The mean of the recorded latencies.
+	 */
+	double getMean(TimeUnit unit);
+
+	/**
+	 * The latency below which the given percentage of the recorded
+	 * latencies falls, {@code 0} if nothing was recorded.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100},
+	 * for example {@code 99.9}
+	 */
+	long getValueAtPercentile(double percentile, TimeUnit unit);
+
+	/**
+	 * A new histogram holding the latencies of this histogram and the
+	 * given histogram, for example the latencies of several session
+	 * factories.  Neither histogram is changed.
+	 */
+	LatencyHistogram merge(LatencyHistogram other);
+
+	/**
+	 * A copy of this histogram, which is not affected by the latencies
+	 * recorded later.
+	 *
+	 * @see #since(LatencyHistogram)
+	 */
+	LatencyHistogram snapshot();
+
+	/**
+	 * A new histogram holding the latencies recorded by this histogram
+	 * since the given {@linkplain #snapshot() snapshot} of it was taken,
+	 * or all of its latencies if it was reset in the meantime.  This
+	 * histogram is cumulative, so this allows to determine the recent
+	 * percentiles, for example over a sliding window.
+	 * <p>
+	 * The maximum of the new histogram is an upper bound of the recent
+	 * latencies, within the precision of the histogram.
+	 *
+	 * @param snapshot A snapshot of this histogram
+	 */
+	LatencyHistogram since(LatencyHistogram snapshot);
+}
@@ -379,4 +379,73 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The number of prepared statements reused from the statement cache.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements <em>not</em> found in the statement cache,
+	 * and so prepared anew.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The distribution of the execution times of queries, with the
+	 * resolution of milliseconds, or {@code null} if latency histograms
+	 * are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getQueryExecutionLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the durations of flushes, or {@code null} if
+	 * latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getFlushLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the durations of entity and collection lookups
+	 * in the second-level cache, hits and misses alike, or {@code null} if
+	 * latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getSecondLevelCacheGetLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the times taken to obtain a JDBC connection, or
+	 * {@code null} if latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getConnectLatencyHistogram() {
+		return null;
+	}
 }
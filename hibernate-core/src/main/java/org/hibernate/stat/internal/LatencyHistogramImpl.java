@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free {@link LatencyHistogram} of latencies in nanoseconds.
+ * <p>
+ * Like an HDR histogram, the latencies are counted in buckets: each power of two
+ * is divided into {@value #SUB_BUCKET_COUNT} buckets of equal width, so the width
+ * of a bucket is at most a sixteenth of the latencies it counts.  Latencies below
+ * {@value #SUB_BUCKET_COUNT} nanoseconds have their own bucket.  Recording a
+ * latency only increments the count of its bucket.
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// the linear buckets, and the buckets of the powers of two from SUB_BUCKET_BITS to 62
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ( 63 - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	// incremented on each reset, so that snapshots taken before a reset are recognized
+	private volatile int generation;
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param nanoseconds The latency, negative latencies are recorded as {@code 0}
+	 */
+	public void record(long nanoseconds) {
+		final long value = Math.max( nanoseconds, 0L );
+		counts.incrementAndGet( bucketIndex( value ) );
+		totalNanos.add( value );
+
+		//noinspection StatementWithEmptyBody
+		for ( long old = maxNanos.get();
+				value > old && !maxNanos.compareAndSet( old, value );
+				old = maxNanos.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
+	public void reset() {
+		generation++;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.set( i, 0L );
+		}
+		totalNanos.reset();
+		maxNanos.set( 0L );
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) - SUB_BUCKET_COUNT;
+		return SUB_BUCKET_COUNT + ( exponent - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * The highest value counted in the bucket with the given index.
+	 */
+	static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = ( index - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT;
+		final long subBucket = SUB_BUCKET_COUNT + ( index - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+
+	@Override
+	public long getCount() {
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			count += counts.get( i );
+		}
+		return count;
+	}
+
+	@Override
+	public long getTotal(TimeUnit unit) {
+		return unit.convert( totalNanos.sum(), TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public long getMax(TimeUnit unit) {
+		return unit.convert( maxNanos.get(), TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public double getMean(TimeUnit unit) {
+		final long count = getCount();
+		return count == 0
+				? 0
+				: (double) totalNanos.sum() / count / TimeUnit.NANOSECONDS.convert( 1, unit );
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile, TimeUnit unit) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			count += snapshot[i];
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1L, (long) Math.ceil( percentile / 100 * count ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += snapshot[i];
+			if ( seen >= rank ) {
+				// the bucket bound may exceed any recorded latency
+				final long nanos = Math.min( highestValueInBucket( i ), maxNanos.get() );
+				return unit.convert( nanos, TimeUnit.NANOSECONDS );
+			}
+		}
+		return getMax( unit );
+	}
+
+	@Override
+	public LatencyHistogram merge(LatencyHistogram other) {
+		if ( !( other instanceof LatencyHistogramImpl ) ) {
+			throw new IllegalArgumentException(
+					"Cannot merge histogram of type " + other.getClass().getName()
+			);
+		}
+		final LatencyHistogramImpl merged = new LatencyHistogramImpl();
+		merged.add( this );
+		merged.add( (LatencyHistogramImpl) other );
+		return merged;
+	}
+
+	@Override
+	public LatencyHistogram snapshot() {
+		final LatencyHistogramImpl snapshot = new LatencyHistogramImpl();
+		snapshot.generation = generation;
+		snapshot.add( this );
+		return snapshot;
+	}
+
+	@Override
+	public LatencyHistogram since(LatencyHistogram snapshot) {
+		if ( !( snapshot instanceof LatencyHistogramImpl ) ) {
+			throw new IllegalArgumentException(
+					"Cannot subtract histogram of type " + snapshot.getClass().getName()
+			);
+		}
+		final LatencyHistogramImpl earlier = (LatencyHistogramImpl) snapshot;
+		if ( earlier.generation != generation ) {
+			// this histogram was reset after the snapshot was taken
+			return snapshot();
+		}
+
+		final LatencyHistogramImpl recent = new LatencyHistogramImpl();
+		int highestBucket = -1;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			final long count = counts.get( i ) - earlier.counts.get( i );
+			if ( count > 0 ) {
+				recent.counts.set( i, count );
+				highestBucket = i;
+			}
+		}
+		recent.totalNanos.add( Math.max( totalNanos.sum() - earlier.totalNanos.sum(), 0L ) );
+		if ( highestBucket >= 0 ) {
+			// the exact maximum of the recent latencies is not known
+			recent.maxNanos.set( Math.min( highestValueInBucket( highestBucket ), maxNanos.get() ) );
+		}
+		return recent;
+	}
+
+	private void add(LatencyHistogramImpl other) {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.addAndGet( i, other.counts.get( i ) );
+		}
+		totalNanos.add( other.totalNanos.sum() );
+		maxNanos.set( Math.max( maxNanos.get(), other.maxNanos.get() ) );
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50, TimeUnit.NANOSECONDS )
+				+ ",p99=" + getValueAtPercentile( 99, TimeUnit.NANOSECONDS )
+				+ ",max=" + maxNanos.get()
+				+ ']';
+	}
+}
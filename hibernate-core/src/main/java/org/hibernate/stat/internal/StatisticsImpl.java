@@ -8,8 +8,10 @@ package org.hibernate.stat.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -24,8 +26,10 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.stat.spi.StatisticsListener;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
 
@@ -92,6 +96,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -115,6 +122,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<CacheRegionStatisticsImpl> l2CacheStatsMap = new StatsNamedContainer<>();
 
+	/**
+	 * Copied on write, since listeners are registered rarely, but notified on every query
+	 */
+	private volatile StatisticsListener[] listeners = new StatisticsListener[0];
+
+	/**
+	 * The latency histograms, {@code null} unless enabled
+	 */
+	private final LatencyHistogramImpl queryExecutionLatencyHistogram;
+	private final LatencyHistogramImpl flushLatencyHistogram;
+	private final LatencyHistogramImpl secondLevelCacheGetLatencyHistogram;
+	private final LatencyHistogramImpl connectLatencyHistogram;
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -128,6 +148,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
 
+		if ( sessionFactoryOptions.isStatisticsLatencyHistogramsEnabled() ) {
+			queryExecutionLatencyHistogram = new LatencyHistogramImpl();
+			flushLatencyHistogram = new LatencyHistogramImpl();
+			secondLevelCacheGetLatencyHistogram = new LatencyHistogramImpl();
+			connectLatencyHistogram = new LatencyHistogramImpl();
+		}
+		else {
+			queryExecutionLatencyHistogram = null;
+			flushLatencyHistogram = null;
+			secondLevelCacheGetLatencyHistogram = null;
+			connectLatencyHistogram = null;
+		}
+
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
 		this.allEntityNames = entityNames.toArray( new String[0] );
@@ -198,6 +231,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
+
+		if ( queryExecutionLatencyHistogram != null ) {
+			queryExecutionLatencyHistogram.reset();
+			flushLatencyHistogram.reset();
+			secondLevelCacheGetLatencyHistogram.reset();
+			connectLatencyHistogram.reset();
+		}
+
 		resetStart();
 	}
 
@@ -215,6 +258,52 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return startTime.toEpochMilli();
 	}
 
+	@Override
+	public synchronized void addListener(StatisticsListener listener) {
+		Objects.requireNonNull( listener );
+		final StatisticsListener[] newListeners = Arrays.copyOf( listeners, listeners.length + 1 );
+		newListeners[listeners.length] = listener;
+		listeners = newListeners;
+	}
+
+	@Override
+	public synchronized void removeListener(StatisticsListener listener) {
+		for ( int i = 0; i < listeners.length; i++ ) {
+			if ( listeners[i] == listener ) {
+				final StatisticsListener[] newListeners = new StatisticsListener[listeners.length - 1];
+				System.arraycopy( listeners, 0, newListeners, 0, i );
+				System.arraycopy( listeners, i + 1, newListeners, i, listeners.length - i - 1 );
+				listeners = newListeners;
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean isLatencyRecordingEnabled() {
+		return isStatisticsEnabled && queryExecutionLatencyHistogram != null;
+	}
+
+	@Override
+	public LatencyHistogram getQueryExecutionLatencyHistogram() {
+		return queryExecutionLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getFlushLatencyHistogram() {
+		return flushLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getSecondLevelCacheGetLatencyHistogram() {
+		return secondLevelCacheGetLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getConnectLatencyHistogram() {
+		return connectLatencyHistogram;
+	}
+
 	@Override
 	public boolean isStatisticsEnabled() {
 		return isStatisticsEnabled;
@@ -330,6 +419,24 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
 	}
 
+	@Override
+	public void entityCacheHit(NavigableRole entityName, String regionName, long nanoseconds) {
+		entityCacheHit( entityName, regionName );
+		recordSecondLevelCacheGetLatency( nanoseconds );
+	}
+
+	@Override
+	public void entityCacheMiss(NavigableRole entityName, String regionName, long nanoseconds) {
+		entityCacheMiss( entityName, regionName );
+		recordSecondLevelCacheGetLatency( nanoseconds );
+	}
+
+	private void recordSecondLevelCacheGetLatency(long nanoseconds) {
+		if ( secondLevelCacheGetLatencyHistogram != null ) {
+			secondLevelCacheGetLatencyHistogram.record( nanoseconds );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Collection stats
@@ -423,6 +530,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( collectionRole.getFullPath() ).incrementCacheMissCount();
 	}
 
+	@Override
+	public void collectionCacheHit(NavigableRole collectionRole, String regionName, long nanoseconds) {
+		collectionCacheHit( collectionRole, regionName );
+		recordSecondLevelCacheGetLatency( nanoseconds );
+	}
+
+	@Override
+	public void collectionCacheMiss(NavigableRole collectionRole, String regionName, long nanoseconds) {
+		collectionCacheMiss( collectionRole, regionName );
+		recordSecondLevelCacheGetLatency( nanoseconds );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Natural-id stats
@@ -686,6 +805,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		if ( hql != null ) {
 			getQueryStatistics( hql ).executed( rows, time );
 		}
+
+		if ( queryExecutionLatencyHistogram != null ) {
+			queryExecutionLatencyHistogram.record( TimeUnit.MILLISECONDS.toNanos( time ) );
+		}
+
+		for ( StatisticsListener listener : listeners ) {
+			listener.queryExecuted( hql, rows, time );
+		}
 	}
 
 	@Override
@@ -699,6 +826,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCacheHitCount();
 		}
+
+		for ( StatisticsListener listener : listeners ) {
+			listener.queryCacheHit( hql, regionName );
+		}
 	}
 
 	@Override
@@ -712,6 +843,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCacheMissCount();
 		}
+
+		for ( StatisticsListener listener : listeners ) {
+			listener.queryCacheMiss( hql, regionName );
+		}
 	}
 
 	@Override
@@ -725,6 +860,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		if ( hql != null ) {
 			getQueryStatistics( hql ).incrementCachePutCount();
 		}
+
+		for ( StatisticsListener listener : listeners ) {
+			listener.queryCachePut( hql, regionName );
+		}
 	}
 
 	@Override
@@ -829,11 +968,27 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flush(long nanoseconds) {
+		flushCount.increment();
+		if ( flushLatencyHistogram != null ) {
+			flushLatencyHistogram.record( nanoseconds );
+		}
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
 	}
 
+	@Override
+	public void connect(long nanoseconds) {
+		connectCount.increment();
+		if ( connectLatencyHistogram != null ) {
+			connectLatencyHistogram.record( nanoseconds );
+		}
+	}
+
 	@Override
 	public void prepareStatement() {
 		prepareStatementCount.increment();
@@ -844,6 +999,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -936,6 +1111,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",prepared statement cache hits=" + preparedStatementCacheHitCount +
+				",prepared statement cache misses=" + preparedStatementCacheMissCount +
 				']';
 	}
 
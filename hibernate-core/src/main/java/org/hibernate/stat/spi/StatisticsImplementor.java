@@ -266,6 +266,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a prepared statement was reused from the statement cache.
+	 */
+	default void preparedStatementCacheHit() {
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the statement cache.
+	 */
+	default void preparedStatementCacheMiss() {
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -275,4 +287,100 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Whether the latencies of flushes, connections and second-level cache
+	 * lookups should be measured and passed to the callbacks which accept
+	 * them, that is, whether {@linkplain #getFlushLatencyHistogram() latency
+	 * histograms} are enabled, and statistics are collected.  The callers only
+	 * measure the latencies when this returns {@code true}.
+	 *
+	 * @since 6.2
+	 */
+	default boolean isLatencyRecordingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Callback about a flush occurring, with its duration.
+	 *
+	 * @param nanoseconds The duration of the flush
+	 *
+	 * @since 6.2
+	 */
+	default void flush(long nanoseconds) {
+		flush();
+	}
+
+	/**
+	 * Callback about a connection being obtained from
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider},
+	 * with the time taken to obtain it.
+	 *
+	 * @param nanoseconds The time taken to obtain the connection
+	 *
+	 * @since 6.2
+	 */
+	default void connect(long nanoseconds) {
+		connect();
+	}
+
+	/**
+	 * Callback indicating a get from second level cache resulted in a hit,
+	 * with the duration of the get.
+	 *
+	 * @since 6.2
+	 */
+	default void entityCacheHit(NavigableRole entityName, String regionName, long nanoseconds) {
+		entityCacheHit( entityName, regionName );
+	}
+
+	/**
+	 * Callback indicating a get from second level cache resulted in a miss,
+	 * with the duration of the get.
+	 *
+	 * @since 6.2
+	 */
+	default void entityCacheMiss(NavigableRole entityName, String regionName, long nanoseconds) {
+		entityCacheMiss( entityName, regionName );
+	}
+
+	/**
+	 * Callback indicating a get from second level cache resulted in a hit,
+	 * with the duration of the get.
+	 *
+	 * @since 6.2
+	 */
+	default void collectionCacheHit(NavigableRole collectionRole, String regionName, long nanoseconds) {
+		collectionCacheHit( collectionRole, regionName );
+	}
+
+	/**
+	 * Callback indicating a get from second level cache resulted in a miss,
+	 * with the duration of the get.
+	 *
+	 * @since 6.2
+	 */
+	default void collectionCacheMiss(NavigableRole collectionRole, String regionName, long nanoseconds) {
+		collectionCacheMiss( collectionRole, regionName );
+	}
+
+	/**
+	 * Register a listener to be notified of the query statistics as they
+	 * are collected.  Implementations which do not support listeners
+	 * ignore it.
+	 *
+	 * @since 6.2
+	 */
+	default void addListener(StatisticsListener listener) {
+	}
+
+	/**
+	 * Unregister a listener {@linkplain #addListener(StatisticsListener) registered}
+	 * with this instance.
+	 *
+	 * @since 6.2
+	 */
+	default void removeListener(StatisticsListener listener) {
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Receives the query statistics as they are collected, allowing metrics
+ * libraries to record them as events instead of polling the
+ * {@link org.hibernate.stat.Statistics}.
+ * <p>
+ * The callbacks are made on the thread executing the query, and only while
+ * statistics are {@linkplain StatisticsImplementor#isStatisticsEnabled() enabled},
+ * so implementations should be cheap, and must be thread-safe.
+ *
+ * @see StatisticsImplementor#addListener(StatisticsListener)
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface StatisticsListener {
+	/**
+	 * Callback indicating execution of a sql/hql query
+	 *
+	 * @param query The query
+	 * @param rows Number of rows returned
+	 * @param time execution time, in milliseconds
+	 */
+	default void queryExecuted(String query, int rows, long time) {
+	}
+
+	/**
+	 * Callback indicating a get from the query cache resulted in a hit.
+	 *
+	 * @param query The query
+	 * @param regionName The name of the cache region
+	 */
+	default void queryCacheHit(String query, String regionName) {
+	}
+
+	/**
+	 * Callback indicating a get from the query cache resulted in a miss.
+	 *
+	 * @param query The query
+	 * @param regionName The name of the cache region
+	 */
+	default void queryCacheMiss(String query, String regionName) {
+	}
+
+	/**
+	 * Callback indicating a put into the query cache.
+	 *
+	 * @param query The query
+	 * @param regionName The name of the cache region
+	 */
+	default void queryCachePut(String query, String regionName) {
+	}
+}
@@ -8,7 +8,12 @@ package org.hibernate.orm.test.bootstrap.scanning;
 
 import java.io.File;
 import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.Entity;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
@@ -26,8 +31,14 @@ import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer;
+import org.hibernate.orm.test.jpa.pack.defaultpar.Lighter;
+import org.hibernate.orm.test.jpa.pack.defaultpar.Money;
 import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -70,6 +81,61 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testNativeScannerWithJandexIndex() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		Scanner scanner = new StandardScanner();
+		// the index only covers some of the classes, the others are indexed while scanning;
+		// its annotations differ from the class files, to check that the scan follows the index
+		ScanResult scanResult = scanner.scan(
+				env,
+				options,
+				new StandardScanParameters( Index.create(
+						Collections.emptyMap(),
+						Collections.emptyMap(),
+						Collections.emptyMap(),
+						Map.of(
+								// annotated with @Entity, but not in the index
+								DotName.createSimple( ApplicationServer.class.getName() ),
+								indexedClass( ApplicationServer.class ),
+								// not annotated, but an @Entity in the index
+								DotName.createSimple( Lighter.class.getName() ),
+								indexedClass( Lighter.class, Entity.class )
+						)
+				) )
+		);
+
+		assertEquals( 3, scanResult.getLocatedClasses().size() );
+		assertClassesContained( scanResult, Lighter.class );
+		assertClassesContained( scanResult, Money.class );
+		assertClassesContained( scanResult, Version.class );
+	}
+
+	private static ClassInfo indexedClass(Class<?> indexedClass, Class<?>... annotations) {
+		final DotName name = DotName.createSimple( indexedClass.getName() );
+		final Map<DotName, List<AnnotationInstance>> annotationInstances = new HashMap<>();
+		for ( Class<?> annotation : annotations ) {
+			final DotName annotationName = DotName.createSimple( annotation.getName() );
+			annotationInstances.put(
+					annotationName,
+					List.of( AnnotationInstance.create( annotationName, null, Collections.emptyList() ) )
+			);
+		}
+		return ClassInfo.create(
+				name,
+				DotName.createSimple( Object.class.getName() ),
+				(short) Modifier.PUBLIC,
+				new DotName[0],
+				annotationInstances,
+				true
+		);
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.ConnectionValidator;
+import org.hibernate.engine.jdbc.connections.internal.DriverConnectionCreator;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl.PooledConnections;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.logger.LogInspectionHelper;
+import org.hibernate.testing.logger.TriggerOnPrefixLogListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	private void configure(long acquisitionTimeout) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pool" );
+		properties.put( AvailableSettings.POOL_SIZE, "2" );
+		properties.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, Long.toString( acquisitionTimeout ) );
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( PropertiesHelper.map( properties ) );
+	}
+
+	@Test
+	public void testMostRecentlyReturnedConnectionReused() throws Exception {
+		configure( 0 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+
+		assertThat( connectionProvider.getIdleConnectionCount() ).isEqualTo( 2 );
+		final Connection connection = connectionProvider.getConnection();
+		assertThat( connection ).isSameAs( second );
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 1 );
+		connectionProvider.closeConnection( connection );
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		configure( 100 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final long start = System.nanoTime();
+		assertThrows( HibernateException.class, connectionProvider::getConnection );
+		assertThat( System.nanoTime() - start ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		assertThat( connectionProvider.getConnectionAcquisitionTimeoutCount() ).isEqualTo( 1 );
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 2 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		configure( 10_000 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		while ( connectionProvider.getPendingConnectionRequestCount() == 0 ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( waiting.isDone() ).isFalse();
+
+		connectionProvider.closeConnection( first );
+		final Connection connection = waiting.get( 10, TimeUnit.SECONDS );
+		assertThat( connection ).isSameAs( first );
+
+		connectionProvider.closeConnection( connection );
+		connectionProvider.closeConnection( second );
+		assertThat( connectionProvider.getConnectionAcquisitionTimeoutCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testStopWhileWaitingForConnection() throws Exception {
+		configure( 10_000 );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		while ( connectionProvider.getPendingConnectionRequestCount() == 0 ) {
+			Thread.sleep( 10 );
+		}
+
+		// the pool is stopped without waiting for the acquisition timeout of the pending request
+		CompletableFuture.runAsync( connectionProvider::stop ).get( 5, TimeUnit.SECONDS );
+		assertThat( waiting.isDone() ).isFalse();
+
+		// and the connections can still be returned
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( waiting.get( 10, TimeUnit.SECONDS ) );
+		connectionProvider.closeConnection( second );
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "leaks" );
+		final Properties connectionProperties = new Properties();
+		connectionProperties.put( "user", properties.getProperty( AvailableSettings.USER ) );
+		connectionProperties.put( "password", properties.getProperty( AvailableSettings.PASS ) );
+		final DriverConnectionCreator connectionCreator = new DriverConnectionCreator(
+				(Driver) Class.forName( properties.getProperty( AvailableSettings.DRIVER ) )
+						.getDeclaredConstructor()
+						.newInstance(),
+				null,
+				properties.getProperty( AvailableSettings.URL ),
+				connectionProperties,
+				false,
+				null,
+				null
+		);
+		final PooledConnections pool = new PooledConnections.Builder( connectionCreator, false )
+				.leakDetectionThreshold( 500 )
+				.validator( ConnectionValidator.ALWAYS_VALID )
+				.build();
+
+		final TriggerOnPrefixLogListener listener = new TriggerOnPrefixLogListener( "Connection leak detected" );
+		LogInspectionHelper.registerListener( listener, ConnectionPoolingLogger.CONNECTIONS_LOGGER );
+		try {
+			final Connection connection = pool.poll();
+			pool.validate();
+			assertThat( listener.wasTriggered() ).isFalse();
+
+			Thread.sleep( 600 );
+			pool.validate();
+			assertThat( listener.wasTriggered() ).isTrue();
+
+			// a leak is only reported once
+			listener.reset();
+			pool.validate();
+			assertThat( listener.wasTriggered() ).isFalse();
+
+			pool.add( connection );
+		}
+		finally {
+			LogInspectionHelper.clearAllListeners( ConnectionPoolingLogger.CONNECTIONS_LOGGER );
+			pool.close();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.cachedPlanCount;
+
+/**
+ * Verifies that query plans are cached for queries with an applied entity graph, and shared only
+ * by queries with an equivalent graph and semantic.
+ */
+@DomainModel(
+		annotatedClasses = {
+				EntityGraphQueryPlanCacheTest.Publisher.class,
+				EntityGraphQueryPlanCacheTest.Author.class,
+				EntityGraphQueryPlanCacheTest.Book.class
+		}
+)
+@SessionFactory
+public class EntityGraphQueryPlanCacheTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Manning" );
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( publisher );
+			session.persist( author );
+			session.persist( new Book( 1, "Hibernate in Action", author, publisher ) );
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	void testPlanSharedForEquivalentGraphs(SessionFactoryScope scope) {
+		final String query = "select b from Book b where b.id = :id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNodes( "author", "publisher" );
+			final Book book = session.createQuery( query, Book.class )
+					.setParameter( "id", 1 )
+					.applyGraph( graph, GraphSemantic.FETCH )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+			assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+		} );
+		scope.inTransaction( session -> {
+			// the same graph, with its attribute nodes added in a different order
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNodes( "publisher", "author" );
+			final Book book = session.createQuery( query, Book.class )
+					.setParameter( "id", 1 )
+					.applyGraph( graph, GraphSemantic.FETCH )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+			assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testPlanNotSharedForDifferentGraphs(SessionFactoryScope scope) {
+		final String query = "select x from Book x where x.id = :id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			final RootGraph<Book> authorGraph = session.createEntityGraph( Book.class );
+			authorGraph.addAttributeNodes( "author" );
+			final Book book = session.createQuery( query, Book.class )
+					.setParameter( "id", 1 )
+					.applyGraph( authorGraph, GraphSemantic.FETCH )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+			assertThat( Hibernate.isInitialized( book.publisher ) ).isFalse();
+		} );
+		scope.inTransaction( session -> {
+			final RootGraph<Book> publisherGraph = session.createEntityGraph( Book.class );
+			publisherGraph.addAttributeNodes( "publisher" );
+			final Book book = session.createQuery( query, Book.class )
+					.setParameter( "id", 1 )
+					.applyGraph( publisherGraph, GraphSemantic.FETCH )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+			assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+		} );
+		scope.inTransaction( session -> {
+			final RootGraph<Book> publisherGraph = session.createEntityGraph( Book.class );
+			publisherGraph.addAttributeNodes( "publisher" );
+			final Book book = session.createQuery( query, Book.class )
+					.setParameter( "id", 1 )
+					.applyGraph( publisherGraph, GraphSemantic.LOAD )
+					.getSingleResult();
+			assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 3 );
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.cachedPlanCount;
+
+/**
+ * Verifies that query plans are cached when filters are enabled, and that the arguments of
+ * the filter parameters are bound anew when a cached plan is executed.
+ */
+@DomainModel(annotatedClasses = FilterQueryPlanCacheTest.Account.class)
+@SessionFactory
+public class FilterQueryPlanCacheTest {
+
+	private static String query(String alias) {
+		// a distinct query per test, so that no test sees the plans cached by another one
+		return "select " + alias + ".id from Account " + alias + " order by " + alias + ".id";
+	}
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Account( 1, "acme", "EUR" ) );
+			session.persist( new Account( 2, "acme", "USD" ) );
+			session.persist( new Account( 3, "initech", "EUR" ) );
+			session.persist( new Account( 4, "initech", "CHF" ) );
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	void testPlanSharedForDifferentArguments(SessionFactoryScope scope) {
+		final String query = query( "a" );
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "tenant" ).setParameter( "tenantId", "acme" );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 1, 2 );
+		} );
+		scope.inTransaction( session -> {
+			session.enableFilter( "tenant" ).setParameter( "tenantId", "initech" );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 3, 4 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testPlanNotSharedForDifferentFilters(SessionFactoryScope scope) {
+		final String query = query( "b" );
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 1, 2, 3, 4 );
+
+			session.enableFilter( "tenant" ).setParameter( "tenantId", "acme" );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 1, 2 );
+
+			session.enableFilter( "currencies" ).setParameterList( "currencies", List.of( "EUR" ) );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 1 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 3 );
+	}
+
+	@Test
+	void testPlanSharedForListsOfSameSize(SessionFactoryScope scope) {
+		final String query = query( "c" );
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "currencies" ).setParameterList( "currencies", List.of( "EUR", "USD" ) );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 1, 2, 3 );
+
+			session.enableFilter( "currencies" ).setParameterList( "currencies", List.of( "CHF", "USD" ) );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 2, 4 );
+
+			session.enableFilter( "currencies" ).setParameterList( "currencies", List.of( "CHF" ) );
+			assertThat( session.createSelectionQuery( query, Integer.class ).getResultList() ).containsExactly( 4 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Account")
+	@FilterDef(name = "tenant", parameters = @ParamDef(name = "tenantId", type = String.class))
+	@FilterDef(name = "currencies", parameters = @ParamDef(name = "currencies", type = String.class))
+	@Filter(name = "tenant", condition = "tenantId = :tenantId")
+	@Filter(name = "currencies", condition = "currency in (:currencies)")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String tenantId;
+		private String currency;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String tenantId, String currency) {
+			this.id = id;
+			this.tenantId = tenantId;
+			this.currency = currency;
+		}
+	}
+}
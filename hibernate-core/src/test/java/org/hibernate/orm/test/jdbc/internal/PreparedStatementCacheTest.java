@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStatementsReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Product( i, "Product " + i ) );
+				session.flush();
+			}
+		} );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Product product = session.find( Product.class, i );
+				assertThat( product.name ).isEqualTo( "Product " + i );
+				session.clear();
+			}
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStatementsNotReusedAcrossTransactions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.persist( new Product( 1, "Product 1" ) ) );
+
+		statistics.clear();
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			assertThat( session.find( Product.class, 1 ).name ).isEqualTo( "Product 1" );
+			session.getTransaction().commit();
+			session.clear();
+
+			session.getTransaction().begin();
+			assertThat( session.find( Product.class, 1 ).name ).isEqualTo( "Product 1" );
+			session.getTransaction().commit();
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.persist( new Product( 1, "Product 1" ) ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final String[] queries = {
+					"select p.id from Product p",
+					"select p.name from Product p",
+					"select count(p) from Product p"
+			};
+			// two rounds over three distinct statements, with room for only two idle ones
+			for ( int round = 0; round < 2; round++ ) {
+				for ( String query : queries ) {
+					assertThat( session.createSelectionQuery( query ).getResultList() ).hasSize( 1 );
+				}
+			}
+		} );
+
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 6 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
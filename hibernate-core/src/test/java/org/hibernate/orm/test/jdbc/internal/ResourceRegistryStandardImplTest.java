@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the tracking of statements and result sets by {@link ResourceRegistryStandardImpl}.
+ */
+public class ResourceRegistryStandardImplTest {
+
+	@Test
+	public void testSingleStatement() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( resultSet, statement );
+		verify( resultSet ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( statement );
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testStatementRegisteredTwice() {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+
+		registry.register( statement, false );
+		assertThatThrownBy( () -> registry.register( statement, false ) )
+				.isInstanceOf( HibernateException.class );
+
+		final Statement other = mock( Statement.class );
+		registry.register( other, false );
+		assertThatThrownBy( () -> registry.register( other, false ) )
+				.isInstanceOf( HibernateException.class );
+	}
+
+	@Test
+	public void testReleaseStatementClosesItsResultSets() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet first = mock( ResultSet.class );
+		final ResultSet second = mock( ResultSet.class );
+
+		registry.register( statement, false );
+		registry.register( first, statement );
+		registry.register( second, statement );
+		registry.release( statement );
+
+		verify( first ).close();
+		verify( second ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+
+		// the result sets of the released statement are not tracked by the next one
+		final Statement next = mock( Statement.class );
+		registry.register( next, false );
+		registry.releaseResources();
+		verify( first, times( 1 ) ).close();
+		verify( second, times( 1 ) ).close();
+		verify( next ).close();
+	}
+
+	@Test
+	public void testReleaseResourcesWithManyStatements() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement[] statements = new Statement[3];
+		final ResultSet[] resultSets = new ResultSet[6];
+		for ( int i = 0; i < statements.length; i++ ) {
+			statements[i] = mock( Statement.class );
+			registry.register( statements[i], false );
+			for ( int j = 0; j < 2; j++ ) {
+				resultSets[2 * i + j] = mock( ResultSet.class );
+				registry.register( resultSets[2 * i + j], statements[i] );
+			}
+		}
+
+		// release the result set which is stored inline, the other one must still be tracked
+		registry.release( resultSets[0], statements[0] );
+		verify( resultSets[0] ).close();
+
+		registry.releaseResources();
+		for ( Statement statement : statements ) {
+			verify( statement ).close();
+		}
+		for ( ResultSet resultSet : resultSets ) {
+			verify( resultSet, times( 1 ) ).close();
+		}
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testResultSetOfUnregisteredStatement() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getStatement() ).thenReturn( statement );
+
+		registry.register( resultSet, null );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.releaseResources();
+		verify( resultSet ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testResultSetWithoutStatement() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final ResultSet first = mock( ResultSet.class );
+		final ResultSet second = mock( ResultSet.class );
+
+		registry.register( first, null );
+		registry.register( second, null );
+		registry.release( first, null );
+		verify( first ).close();
+		verify( second, never() ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.releaseResources();
+		verify( second ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.testing.util.ReflectionUtil.getField;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that persisters whose runtime structures are built on first use work as usual.
+ */
+@DomainModel(annotatedClasses = DelayedPersisterInitializationTest.Playlist.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.DELAY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class DelayedPersisterInitializationTest {
+
+	@Test
+	public void testLifecycle(SessionFactoryScope scope) throws IllegalAccessException {
+		assertThat( scope.getSessionFactory().getSessionFactoryOptions().isDelayPersisterInitializationEnabled() )
+				.isTrue();
+
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		final AbstractEntityPersister entityPersister =
+				(AbstractEntityPersister) metamodel.getEntityDescriptor( Playlist.class );
+		final AbstractCollectionPersister collectionPersister =
+				(AbstractCollectionPersister) metamodel.getCollectionDescriptor( Playlist.class.getName() + ".songs" );
+
+		// nothing is built before the persisters are first used
+		assertThat( entityField( entityPersister, "insertCoordinator" ) ).isNull();
+		assertThat( entityField( entityPersister, "updateCoordinator" ) ).isNull();
+		assertThat( entityField( entityPersister, "deleteCoordinator" ) ).isNull();
+		assertThat( entityField( entityPersister, "sqlLazySelectStringsByFetchGroup" ) ).isNull();
+		assertThat( collectionField( collectionPersister, "standardCollectionLoader" ) ).isNull();
+		assertThat( collectionField( collectionPersister, "collectionElementLoaderByIndex" ) ).isNull();
+
+		scope.inTransaction( session -> {
+			final Playlist playlist = new Playlist( 1, "Favorites" );
+			playlist.songs.add( "Song 2" );
+			playlist.songs.add( "Parklife" );
+			session.persist( playlist );
+		} );
+
+		// only what was needed to insert has been built
+		assertThat( entityField( entityPersister, "insertCoordinator" ) ).isNotNull();
+		assertThat( entityField( entityPersister, "updateCoordinator" ) ).isNull();
+		assertThat( entityField( entityPersister, "deleteCoordinator" ) ).isNull();
+		assertThat( collectionField( collectionPersister, "standardCollectionLoader" ) ).isNull();
+
+		scope.inTransaction( session -> {
+			final Playlist playlist = session.find( Playlist.class, 1 );
+			assertThat( playlist.songs ).containsExactly( "Song 2", "Parklife" );
+			playlist.name = "All time favorites";
+		} );
+
+		assertThat( entityField( entityPersister, "updateCoordinator" ) ).isNotNull();
+		assertThat( entityField( entityPersister, "deleteCoordinator" ) ).isNull();
+		assertThat( collectionField( collectionPersister, "standardCollectionLoader" ) ).isNotNull();
+
+		scope.inTransaction( session -> {
+			final Playlist playlist = session.find( Playlist.class, 1 );
+			assertThat( playlist.name ).isEqualTo( "All time favorites" );
+			assertThat( playlist.version ).isEqualTo( 1 );
+			session.remove( playlist );
+		} );
+
+		assertThat( entityField( entityPersister, "deleteCoordinator" ) ).isNotNull();
+
+		scope.inTransaction( session -> assertThat( session.find( Playlist.class, 1 ) ).isNull() );
+	}
+
+	private static Object entityField(AbstractEntityPersister persister, String name) throws IllegalAccessException {
+		return getField( AbstractEntityPersister.class, name ).get( persister );
+	}
+
+	private static Object collectionField(AbstractCollectionPersister persister, String name) throws IllegalAccessException {
+		return getField( AbstractCollectionPersister.class, name ).get( persister );
+	}
+
+	@Entity(name = "Playlist")
+	public static class Playlist {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+		@ElementCollection
+		@OrderColumn
+		private List<String> songs = new ArrayList<>();
+
+		public Playlist() {
+		}
+
+		public Playlist(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that persisters created concurrently are fully usable.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterCreationTest.Author.class,
+		ParallelPersisterCreationTest.Publication.class,
+		ParallelPersisterCreationTest.Book.class,
+		ParallelPersisterCreationTest.Article.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTER_CREATION_PARALLELISM, value = "4"))
+@SessionFactory
+public class ParallelPersisterCreationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Publication" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersistersRegistered(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( metamodel.getEntityDescriptor( Author.class ).getEntityName() )
+				.isEqualTo( Author.class.getName() );
+		assertThat( metamodel.getEntityDescriptor( Book.class ).getEntityMetamodel().getSuperclass() )
+				.isEqualTo( Publication.class.getName() );
+		assertThat( metamodel.getCollectionDescriptor( Author.class.getName() + ".publications" ).getOwnerEntityPersister() )
+				.isSameAs( metamodel.getEntityDescriptor( Author.class ) );
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			final Book book = new Book( 2, "Hibernate in Action", author );
+			final Article article = new Article( 3, "Hibernate ORM 6", author );
+			author.publications.add( book );
+			author.publications.add( article );
+			session.persist( author );
+			session.persist( book );
+			session.persist( article );
+		} );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.publications ).hasSize( 2 );
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getSingleResult().title )
+					.isEqualTo( "Hibernate in Action" );
+		} );
+	}
+
+	@Test
+	public void testManyEntitiesSharingBootModelValues() {
+		// the subclass persisters share the values of the properties inherited from the root
+		for ( int i = 0; i < 10; i++ ) {
+			try ( StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+					.applySetting( AvailableSettings.PERSISTER_CREATION_PARALLELISM, "8" )
+					.build();
+				SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+						.addInputStream( new ByteArrayInputStream( manyEntitiesMapping().getBytes( StandardCharsets.UTF_8 ) ) )
+						.buildMetadata()
+						.buildSessionFactory() ) {
+				final MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+				final EntityPersister root = metamodel.getEntityDescriptor( "Root" );
+				for ( int j = 0; j < SUBCLASS_COUNT; j++ ) {
+					final EntityPersister subclass = metamodel.getEntityDescriptor( "Sub" + j );
+					assertThat( subclass.getIdentifierType() ).isSameAs( root.getIdentifierType() );
+					assertThat( subclass.getPropertyType( "parent" ) ).isSameAs( root.getPropertyType( "parent" ) );
+					assertThat( subclass.getPropertyType( "children" ) ).isSameAs( root.getPropertyType( "children" ) );
+				}
+				assertThat( metamodel.getCollectionDescriptor( "Root.children" ).getOwnerEntityPersister() )
+						.isSameAs( root );
+			}
+		}
+	}
+
+	private static final int SUBCLASS_COUNT = 40;
+
+	private static String manyEntitiesMapping() {
+		final StringBuilder mapping = new StringBuilder()
+				.append( "<hibernate-mapping xmlns=\"http://www.hibernate.org/xsd/hibernate-mapping\">" )
+				.append( "<class entity-name=\"Root\" table=\"many_root\" discriminator-value=\"root\">" )
+				.append( "<id name=\"id\" type=\"long\"/>" )
+				.append( "<discriminator column=\"kind\" type=\"string\"/>" )
+				.append( "<property name=\"name\" type=\"string\"/>" )
+				.append( "<many-to-one name=\"parent\" entity-name=\"Root\" column=\"parent_id\"/>" )
+				.append( "<set name=\"children\" inverse=\"true\"><key column=\"parent_id\"/><one-to-many entity-name=\"Root\"/></set>" );
+		for ( int i = 0; i < SUBCLASS_COUNT; i++ ) {
+			mapping.append( "<subclass entity-name=\"Sub" ).append( i ).append( "\" discriminator-value=\"" ).append( i ).append( "\">" )
+					.append( "<property name=\"value" ).append( i ).append( "\" type=\"integer\"/>" )
+					.append( "<many-to-one name=\"other" ).append( i ).append( "\" entity-name=\"Root\" column=\"other" ).append( i ).append( "_id\"/>" )
+					.append( "</subclass>" );
+		}
+		return mapping.append( "</class></hibernate-mapping>" ).toString();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private Set<Publication> publications = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Publication {
+		@Id
+		private Integer id;
+		protected String title;
+		@ManyToOne
+		private Author author;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+
+	@Entity(name = "Article")
+	public static class Article extends Publication {
+		public Article() {
+		}
+
+		public Article(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.proxy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.Environment;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a proxy class generated ahead of time, as done by the build plugins, is used at runtime.
+ */
+@DomainModel(annotatedClasses = BuildTimeProxyTest.Book.class)
+@SessionFactory
+public class BuildTimeProxyTest {
+
+	static {
+		// simulate the build plugins, which write the proxy class next to the entity class
+		final Map<String, byte[]> proxyClasses = Environment.getBytecodeProvider().generateBuildTimeProxyClasses(
+				Book.class.getName(),
+				BuildTimeProxyTest.class.getClassLoader()
+		);
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( Book.class, MethodHandles.lookup() );
+			for ( byte[] proxyClass : proxyClasses.values() ) {
+				lookup.defineClass( proxyClass );
+			}
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBuildTimeProxyUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+
+		scope.inTransaction( session -> {
+			final Book book = session.getReference( Book.class, 1 );
+			assertThat( book ).isInstanceOf( HibernateProxy.class );
+			assertThat( book.getClass().getName() )
+					.isEqualTo( ByteBuddyProxyHelper.buildTimeProxyClassName( Book.class.getName() ) );
+			assertThat( Hibernate.isInitialized( book ) ).isFalse();
+			assertThat( book.getTitle() ).isEqualTo( "Hibernate in Action" );
+			assertThat( Hibernate.isInitialized( book ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testNonEntityNotProxied() {
+		assertThat( Environment.getBytecodeProvider().generateBuildTimeProxyClasses(
+				BuildTimeProxyTest.class.getName(),
+				BuildTimeProxyTest.class.getClassLoader()
+		) ).isEmpty();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+/**
+ * A {@link org.hibernate.query.sqm.sql.SqmTranslatorFactory} counting the translations of
+ * select statements, to be configured with
+ * {@value org.hibernate.cfg.AvailableSettings#SEMANTIC_QUERY_TRANSLATOR}.
+ */
+public class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+	private final AtomicInteger selectTranslationCount = new AtomicInteger();
+
+	@Override
+	public SqmTranslator<SelectStatement> createSelectTranslator(
+			SqmSelectStatement<?> sqmSelectStatement,
+			QueryOptions queryOptions,
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings domainParameterBindings,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SqlAstCreationContext creationContext,
+			boolean deduplicateSelectionItems) {
+		selectTranslationCount.incrementAndGet();
+		return super.createSelectTranslator(
+				sqmSelectStatement,
+				queryOptions,
+				domainParameterXref,
+				domainParameterBindings,
+				loadQueryInfluencers,
+				creationContext,
+				deduplicateSelectionItems
+		);
+	}
+
+	public int getSelectTranslationCount() {
+		return selectTranslationCount.get();
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+
+/**
+ * Helpers for the tests of the caching of query plans and translations.
+ */
+public final class QueryPlanCacheTestUtil {
+
+	private QueryPlanCacheTestUtil() {
+	}
+
+	/**
+	 * The number of query plans currently held by the interpretation cache
+	 */
+	public static int cachedPlanCount(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans();
+	}
+
+	/**
+	 * The number of select statements translated from SQM to SQL, when the session factory is
+	 * configured with a {@link CountingSqmTranslatorFactory}
+	 */
+	public static int selectTranslationCount(SessionFactoryScope scope) {
+		return ( (CountingSqmTranslatorFactory) scope.getSessionFactory().getQueryEngine().getSqmTranslatorFactory() )
+				.getSelectTranslationCount();
+	}
+}
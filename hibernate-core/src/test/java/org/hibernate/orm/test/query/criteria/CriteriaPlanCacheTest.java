@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED}
+ */
+@DomainModel(annotatedClasses = { CriteriaPlanCacheTest.Author.class, CriteriaPlanCacheTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class CriteriaPlanCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			final Author steve = new Author( 2, "Steve" );
+			session.persist( gavin );
+			session.persist( steve );
+			session.persist( new Book( 1, "Hibernate in Action", gavin ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", gavin ) );
+			session.persist( new Book( 3, "Hibernate Search in Action", steve ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPlanSharedForDifferentValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			assertThat( findTitlesByAuthor( session.getCriteriaBuilder(), session, "Gavin" ) )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+			assertThat( findTitlesByAuthor( session.getCriteriaBuilder(), session, "Steve" ) )
+					.containsExactly( "Hibernate Search in Action" );
+			assertThat( findTitlesByAuthor( session.getCriteriaBuilder(), session, "Emmanuel" ) )
+					.isEmpty();
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPlanSharedForDifferentParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				final CriteriaBuilder cb = session.getCriteriaBuilder();
+				final CriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final Root<Book> book = query.from( Book.class );
+				final ParameterExpression<Integer> idParameter = cb.parameter( Integer.class, "id" );
+				query.where( cb.equal( book.get( "id" ), idParameter ) );
+				final Book result = session.createQuery( query ).setParameter( idParameter, id ).getSingleResult();
+				assertThat( result.id ).isEqualTo( id );
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPlanNotSharedForDifferentStructure(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final CriteriaQuery<Book> joined = cb.createQuery( Book.class );
+			final Root<Book> joinedBook = joined.from( Book.class );
+			final Join<Book, Author> author = joinedBook.join( "author" );
+			joined.where( cb.equal( author.get( "name" ), "Steve" ) );
+			final Book book = session.createQuery( joined ).getSingleResult();
+			assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+			session.clear();
+
+			final CriteriaQuery<Book> fetched = cb.createQuery( Book.class );
+			final Root<Book> fetchedBook = fetched.from( Book.class );
+			fetchedBook.fetch( "author", JoinType.INNER );
+			fetched.where( cb.equal( fetchedBook.get( "author" ).get( "name" ), "Steve" ) );
+			final Book fetchedResult = session.createQuery( fetched ).getSingleResult();
+			assertThat( Hibernate.isInitialized( fetchedResult.author ) ).isTrue();
+			session.clear();
+
+			final CriteriaQuery<String> literal = cb.createQuery( String.class );
+			final Root<Book> literalBook = literal.from( Book.class );
+			literal.select( literalBook.get( "title" ) );
+			literal.where( cb.like( literalBook.get( "title" ), cb.literal( "Java%" ) ) );
+			assertThat( session.createQuery( literal ).getResultList() )
+					.containsExactly( "Java Persistence with Hibernate" );
+
+			final CriteriaQuery<String> otherLiteral = cb.createQuery( String.class );
+			final Root<Book> otherLiteralBook = otherLiteral.from( Book.class );
+			otherLiteral.select( otherLiteralBook.get( "title" ) );
+			otherLiteral.where( cb.like( otherLiteralBook.get( "title" ), cb.literal( "%Search%" ) ) );
+			assertThat( session.createQuery( otherLiteral ).getResultList() )
+					.containsExactly( "Hibernate Search in Action" );
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testCriteriaMutatedAfterExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<String> query = cb.createQuery( String.class );
+			final Root<Book> book = query.from( Book.class );
+			query.select( book.get( "title" ) );
+			query.where( cb.equal( book.get( "id" ), 1 ) );
+			assertThat( session.createQuery( query ).getResultList() ).containsExactly( "Hibernate in Action" );
+
+			query.where( cb.equal( book.get( "id" ), 3 ) );
+			assertThat( session.createQuery( query ).getResultList() ).containsExactly( "Hibernate Search in Action" );
+
+			query.orderBy( cb.asc( book.get( "title" ) ) ).where( cb.gt( book.get( "id" ), 0 ) );
+			assertThat( session.createQuery( query ).getResultList() ).containsExactly(
+					"Hibernate Search in Action",
+					"Hibernate in Action",
+					"Java Persistence with Hibernate"
+			);
+		} );
+	}
+
+	private static List<String> findTitlesByAuthor(CriteriaBuilder cb, Session session, String name) {
+		final CriteriaQuery<String> query = cb.createQuery( String.class );
+		final Root<Book> book = query.from( Book.class );
+		query.select( book.get( "title" ) );
+		// the value is bound to a parameter, and so the structure of the query does not depend on it
+		query.where( cb.equal( book.get( "author" ).get( "name" ), name ) );
+		query.orderBy( cb.asc( book.get( "id" ) ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
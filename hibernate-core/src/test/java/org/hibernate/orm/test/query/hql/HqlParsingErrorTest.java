@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.SemanticException;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.sqm.ParsingException;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that syntax errors are reported with their position, although the SLL(k)-based
+ * parsing stage bails out without reporting them.
+ */
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@SessionFactory
+public class HqlParsingErrorTest {
+
+	@Test
+	void testSyntaxError(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThatThrownBy(
+				() -> session.createQuery( "select e fro EntityOfBasics e" )
+		).isInstanceOf( IllegalArgumentException.class )
+				.hasCauseInstanceOf( ParsingException.class )
+				.satisfies( e -> assertThat( e.getCause() ).hasMessageStartingWith( "line 1:13 " ) ) );
+	}
+
+	@Test
+	void testLexerError(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThatThrownBy(
+				() -> session.createQuery( "select e from EntityOfBasics e where e.theString = 'unterminated" )
+		).isInstanceOf( IllegalArgumentException.class )
+				.hasCauseInstanceOf( SemanticException.class ) );
+	}
+
+	@Test
+	void testWellFormedQuery(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThat(
+				session.createQuery( "select e.id from EntityOfBasics e where e.theString like 'x%' order by e.id", Integer.class )
+						.getResultList()
+		).isEmpty() );
+	}
+
+	@Test
+	void testQueryRequiringFullContextPrediction(SessionFactoryScope scope) {
+		final String hql = "select e.id from EntityOfBasics e where not(e.theInt) > 1";
+
+		// SLL(k)-based prediction alone fails for this well-formed query
+		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+		assertThatThrownBy( hqlParser::statement ).isInstanceOf( ParseCancellationException.class );
+
+		// so it is parsed by the LL(k)-based fallback, without reporting any error
+		scope.inSession( session -> assertThat(
+				session.createQuery( hql, Integer.class ).getResultList()
+		).isEmpty() );
+	}
+}
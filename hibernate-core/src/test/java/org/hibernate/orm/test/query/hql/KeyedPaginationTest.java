@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.selectTranslationCount;
+
+/**
+ * Verifies key-based pagination of HQL and criteria queries.
+ */
+@DomainModel(annotatedClasses = KeyedPaginationTest.Person.class)
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+		value = "org.hibernate.orm.test.query.CountingSqmTranslatorFactory"
+))
+@SessionFactory
+public class KeyedPaginationTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// ten people, in three families
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "family " + ( i % 3 ), "person " + ( 10 - i ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	void testSingleKey(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final KeyedResultList<Integer> first = session
+					.createQuery( "select p.id from Person p order by p.id", Integer.class )
+					.getKeyedResultList( KeyedPage.first( 4 ) );
+			assertThat( first.getResultList() ).containsExactly( 1, 2, 3, 4 );
+			assertThat( first.getKeyList() ).containsExactly( List.of( 1 ), List.of( 2 ), List.of( 3 ), List.of( 4 ) );
+			assertThat( first.hasNextPage() ).isTrue();
+			assertThat( first.getNextPage() ).isEqualTo( KeyedPage.after( 4, List.of( 4 ) ) );
+
+			final KeyedResultList<Integer> second = session
+					.createQuery( "select p.id from Person p order by p.id", Integer.class )
+					.getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).containsExactly( 5, 6, 7, 8 );
+		} );
+	}
+
+	@Test
+	void testSingleSelectionAsArray(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String query = "select p.id from Person p order by p.id";
+			final List<Object[]> results = session.createQuery( query, Object[].class )
+					.setMaxResults( 4 )
+					.getResultList();
+			final KeyedResultList<Object[]> first = session.createQuery( query, Object[].class )
+					.getKeyedResultList( KeyedPage.first( 4 ) );
+			assertThat( first.getResultList() ).hasSameSizeAs( results );
+			for ( int i = 0; i < results.size(); i++ ) {
+				assertThat( first.getResultList().get( i ) ).containsExactly( results.get( i ) );
+			}
+		} );
+	}
+
+	@Test
+	void testCompositeKeyPagesThroughAllResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Person> people = new ArrayList<>();
+			KeyedPage page = KeyedPage.first( 3 );
+			int pages = 0;
+			while ( page != null ) {
+				final KeyedResultList<Person> results = session
+						.createQuery( "from Person p order by p.family, p.id", Person.class )
+						.getKeyedResultList( page );
+				people.addAll( results.getResultList() );
+				page = results.getNextPage();
+				pages++;
+			}
+			assertThat( pages ).isEqualTo( 4 );
+			assertThat( people ).extracting( person -> person.id )
+					.containsExactly( 3, 6, 9, 1, 4, 7, 10, 2, 5, 8 );
+		} );
+	}
+
+	@Test
+	void testPagesReuseTheirTranslation(SessionFactoryScope scope) {
+		final int translationCount = selectTranslationCount( scope );
+		final List<Integer> ids = new ArrayList<>();
+		KeyedPage page = KeyedPage.first( 3 );
+		while ( page != null ) {
+			final KeyedPage currentPage = page;
+			final KeyedResultList<Integer> results = scope.fromTransaction( session -> session
+					.createQuery( "select p.id from Person p where p.id > 0 order by p.id desc", Integer.class )
+					.getKeyedResultList( currentPage ) );
+			ids.addAll( results.getResultList() );
+			page = results.getNextPage();
+		}
+		assertThat( ids ).containsExactly( 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 );
+		// one translation for the first page, and one shared by the three following pages
+		assertThat( selectTranslationCount( scope ) - translationCount ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testMixedSortOrders(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String query = "select p.id from Person p order by p.family desc, p.id";
+			final KeyedResultList<Integer> first = session.createQuery( query, Integer.class )
+					.getKeyedResultList( KeyedPage.first( 4 ) );
+			assertThat( first.getResultList() ).containsExactly( 2, 5, 8, 1 );
+			assertThat( first.getKeyList().get( 3 ) ).containsExactly( "family 1", 1 );
+
+			final KeyedResultList<Integer> second = session.createQuery( query, Integer.class )
+					.getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).containsExactly( 4, 7, 10, 3 );
+
+			final KeyedResultList<Integer> third = session.createQuery( query, Integer.class )
+					.getKeyedResultList( second.getNextPage() );
+			assertThat( third.getResultList() ).containsExactly( 6, 9 );
+			assertThat( third.hasNextPage() ).isFalse();
+			assertThat( third.getNextPage() ).isNull();
+		} );
+	}
+
+	@Test
+	void testParametersAndOrderByAlias(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String query = "select p.name as name, p.id from Person p where p.family <> :family order by name";
+			final KeyedResultList<Object[]> first = session.createQuery( query, Object[].class )
+					.setParameter( "family", "family 0" )
+					.getKeyedResultList( KeyedPage.first( 3 ) );
+			assertThat( first.getResultList() ).extracting( row -> row[1] ).containsExactly( 10, 8, 7 );
+			assertThat( first.getKeyList().get( 2 ) ).containsExactly( "person 3" );
+
+			final KeyedResultList<Object[]> second = session.createQuery( query, Object[].class )
+					.setParameter( "family", "family 0" )
+					.getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).extracting( row -> row[1] ).containsExactly( 5, 4, 2 );
+		} );
+	}
+
+	@Test
+	void testCriteria(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Person> criteria = cb.createQuery( Person.class );
+			final JpaRoot<Person> root = criteria.from( Person.class );
+			criteria.where( cb.greaterThan( root.get( "id" ), 2 ) );
+			criteria.orderBy( cb.desc( root.get( "id" ) ) );
+
+			final KeyedResultList<Person> first = session.createQuery( criteria )
+					.getKeyedResultList( KeyedPage.first( 5 ) );
+			assertThat( first.getResultList() ).extracting( person -> person.id ).containsExactly( 10, 9, 8, 7, 6 );
+
+			final KeyedResultList<Person> second = session.createQuery( criteria )
+					.getKeyedResultList( first.getNextPage() );
+			assertThat( second.getResultList() ).extracting( person -> person.id ).containsExactly( 5, 4, 3 );
+			assertThat( second.getNextPage() ).isNull();
+		} );
+	}
+
+	@Test
+	void testOrderByRequired(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery( "from Person", Person.class ).getKeyedResultList( KeyedPage.first( 5 ) )
+		).isInstanceOf( IllegalQueryOperationException.class ) );
+	}
+
+	@Test
+	void testKeyMustMatchOrderBy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery( "from Person p order by p.id", Person.class )
+						.getKeyedResultList( KeyedPage.after( 5, List.of( 1, 2 ) ) )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String family;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String family, String name) {
+			this.id = id;
+			this.family = family;
+			this.name = name;
+		}
+	}
+}
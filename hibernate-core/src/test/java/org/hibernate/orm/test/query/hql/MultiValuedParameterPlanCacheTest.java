@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.cachedPlanCount;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.selectTranslationCount;
+
+/**
+ * Verifies that query plans are cached for queries with multi-valued parameters, and that
+ * the padded in lists are bound correctly for every number of values.
+ */
+@DomainModel(annotatedClasses = MultiValuedParameterPlanCacheTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+		@Setting(
+				name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+				value = "org.hibernate.orm.test.query.CountingSqmTranslatorFactory"
+		)
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiValuedParameterPlanCacheTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, i % 2 == 0 ? "even" : "odd" ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	void testPlanSharedForDifferentNumbersOfValues(SessionFactoryScope scope) {
+		final String query = "select a.id from Item a where a.id in :ids order by a.id";
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2, 3, 4, 5 ) )
+								.getResultList() ).containsExactly( 1, 2, 3, 4, 5 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 7, 3, 9 ) )
+								.getResultList() ).containsExactly( 3, 7, 9 );
+			statementInspector.clear();
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 2, 4, 6, 8, 10, 12, 14 ) )
+								.getResultList() ).containsExactly( 2, 4, 6, 8, 10 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "in(?,?,?,?,?,?,?,?)" );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 6 ) )
+								.getResultList() ).containsExactly( 6 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameter( "ids", 8 )
+								.getResultList() ).containsExactly( 8 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of() )
+								.getResultList() ).isEmpty();
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testTranslationSharedForSamePaddedSize(SessionFactoryScope scope) {
+		final String query = "select c.id from Item c where c.id in :ids order by c.id";
+		final int initialTranslationCount = selectTranslationCount( scope );
+
+		scope.inTransaction( session -> {
+			// 5 and 7 values are both padded to 8 parameters
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2, 3, 4, 5 ) )
+								.getResultList() ).containsExactly( 1, 2, 3, 4, 5 );
+			assertThat( selectTranslationCount( scope ) - initialTranslationCount ).isEqualTo( 1 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 2, 4, 6, 8, 10, 12, 14 ) )
+								.getResultList() ).containsExactly( 2, 4, 6, 8, 10 );
+			assertThat( selectTranslationCount( scope ) - initialTranslationCount ).isEqualTo( 1 );
+
+			// 3 values are padded to 4 parameters
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 7, 3, 9 ) )
+								.getResultList() ).containsExactly( 3, 7, 9 );
+			assertThat( selectTranslationCount( scope ) - initialTranslationCount ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	void testNegatedInListWithSeveralParameters(SessionFactoryScope scope) {
+		final String query = "select b.id from Item b where b.id not in :ids and b.name in :names order by b.id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2, 3, 4, 5 ) )
+								.setParameterList( "names", List.of( "odd" ) )
+								.getResultList() ).containsExactly( 7, 9 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 2, 4, 6, 8, 10, 1 ) )
+								.setParameterList( "names", List.of( "odd", "even", "none" ) )
+								.getResultList() ).containsExactly( 3, 5, 7, 9 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+								.setParameterList( "ids", List.of( 1, 3, 5 ) )
+								.setParameterList( "names", List.of( "even", "none", "odd", "other", "even" ) )
+								.getResultList() ).containsExactly( 2, 4, 6, 7, 8, 9, 10 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.cachedPlanCount;
+
+/**
+ * Verifies that the plans of update, delete and insert statements are cached, and that a
+ * cached plan is bound anew on each execution.
+ */
+@DomainModel(
+		annotatedClasses = {
+				MutationQueryPlanCacheTest.Counter.class,
+				MutationQueryPlanCacheTest.Vehicle.class,
+				MutationQueryPlanCacheTest.Car.class
+		}
+)
+@SessionFactory
+public class MutationQueryPlanCacheTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Counter( i, 0 ) );
+				session.persist( new Car( i, "car " + i, 0 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Counter" ).executeUpdate();
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	void testUpdatePlanShared(SessionFactoryScope scope) {
+		final String update = "update Counter c set c.total = c.total + :increment where c.id = :id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				assertThat( session.createMutationQuery( update )
+									.setParameter( "increment", i * 10 )
+									.setParameter( "id", i )
+									.executeUpdate() ).isEqualTo( 1 );
+			}
+			assertThat( session.createMutationQuery( update )
+								.setParameter( "increment", 1 )
+								.setParameter( "id", 1 )
+								.executeUpdate() ).isEqualTo( 1 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select c.total from Counter c order by c.id", Integer.class )
+						.getResultList()
+		).containsExactly( 11, 20, 30, 40 ) );
+	}
+
+	@Test
+	void testDeleteAndInsertPlansShared(SessionFactoryScope scope) {
+		final String delete = "delete from Counter d where d.id = :id";
+		final String insert = "insert into Counter (id, total) select e.id + :offset, e.total from Counter e where e.id = :id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createMutationQuery( delete ).setParameter( "id", 1 ).executeUpdate() ).isEqualTo( 1 );
+			assertThat( session.createMutationQuery( delete ).setParameter( "id", 2 ).executeUpdate() ).isEqualTo( 1 );
+			assertThat( session.createMutationQuery( delete ).setParameter( "id", 2 ).executeUpdate() ).isEqualTo( 0 );
+
+			assertThat( session.createMutationQuery( insert )
+								.setParameter( "offset", 10 )
+								.setParameter( "id", 3 )
+								.executeUpdate() ).isEqualTo( 1 );
+			assertThat( session.createMutationQuery( insert )
+								.setParameter( "offset", 20 )
+								.setParameter( "id", 4 )
+								.executeUpdate() ).isEqualTo( 1 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 2 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select c.id from Counter c order by c.id", Integer.class )
+						.getResultList()
+		).containsExactly( 3, 4, 13, 24 ) );
+	}
+
+	@Test
+	void testMultiTableUpdatePlanShared(SessionFactoryScope scope) {
+		final String update = "update Car c set c.doors = :doors, c.name = :name where c.id = :id";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				assertThat( session.createMutationQuery( update )
+									.setParameter( "doors", i + 1 )
+									.setParameter( "name", "updated " + i )
+									.setParameter( "id", i )
+									.executeUpdate() ).isEqualTo( 1 );
+			}
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select c.name || ':' || c.doors from Car c order by c.id", String.class )
+						.getResultList()
+		).containsExactly( "updated 1:2", "updated 2:3", "updated 3:4", "car 4:0" ) );
+	}
+
+	@Test
+	void testPlanNotCachedForMultiValuedParameters(SessionFactoryScope scope) {
+		final String update = "update Counter m set m.total = :total where m.id in :ids";
+		final int initialPlanCount = cachedPlanCount( scope );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createMutationQuery( update )
+								.setParameter( "total", 5 )
+								.setParameterList( "ids", List.of( 1, 2, 3 ) )
+								.executeUpdate() ).isEqualTo( 3 );
+			assertThat( session.createMutationQuery( update )
+								.setParameter( "total", 7 )
+								.setParameterList( "ids", List.of( 3, 4 ) )
+								.executeUpdate() ).isEqualTo( 2 );
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 0 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select c.total from Counter c order by c.id", Integer.class )
+						.getResultList()
+		).containsExactly( 5, 5, 7, 7 ) );
+	}
+
+	@Entity(name = "Counter")
+	public static class Counter {
+		@Id
+		private Integer id;
+		private int total;
+
+		public Counter() {
+		}
+
+		public Counter(Integer id, int total) {
+			this.id = id;
+			this.total = total;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+}
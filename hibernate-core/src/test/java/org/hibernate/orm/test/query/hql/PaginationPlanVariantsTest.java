@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.cachedPlanCount;
+import static org.hibernate.orm.test.query.QueryPlanCacheTestUtil.selectTranslationCount;
+
+/**
+ * Verifies that a query plan keeps the translations for the different shapes of limit and
+ * offset, so that alternating between the first and later pages reuses them.
+ */
+@DomainModel(annotatedClasses = PaginationPlanVariantsTest.Entry.class)
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+		value = "org.hibernate.orm.test.query.CountingSqmTranslatorFactory"
+))
+@SessionFactory(useCollectingStatementInspector = true)
+public class PaginationPlanVariantsTest {
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Entry( i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Entry" ).executeUpdate() );
+	}
+
+	@Test
+	void testAlternatingPages(SessionFactoryScope scope) {
+		final String query = "select e.id from Entry e where e.id > :min order by e.id";
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final int initialPlanCount = cachedPlanCount( scope );
+		final int initialTranslationCount = selectTranslationCount( scope );
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createQuery( query, Integer.class )
+									.setParameter( "min", 0 )
+									.setMaxResults( 3 )
+									.getResultList() ).containsExactly( 1, 2, 3 );
+				assertThat( session.createQuery( query, Integer.class )
+									.setParameter( "min", 0 )
+									.setFirstResult( 3 * ( i + 1 ) )
+									.setMaxResults( 3 )
+									.getResultList() ).hasSize( i == 2 ? 1 : 3 );
+				assertThat( session.createQuery( query, Integer.class )
+									.setParameter( "min", 8 )
+									.getResultList() ).containsExactly( 9, 10 );
+			}
+		} );
+
+		assertThat( cachedPlanCount( scope ) - initialPlanCount ).isEqualTo( 1 );
+		// each shape is translated once, and its translation reused by the following pages
+		assertThat( selectTranslationCount( scope ) - initialTranslationCount ).isEqualTo( 3 );
+		// three shapes of limit and offset, each with a single translation
+		final Set<String> sqlQueries = new HashSet<>( statementInspector.getSqlQueries() );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 9 );
+		assertThat( sqlQueries ).hasSize( 3 );
+	}
+
+	@Entity(name = "Entry")
+	public static class Entry {
+		@Id
+		private Integer id;
+
+		public Entry() {
+		}
+
+		public Entry(Integer id) {
+			this.id = id;
+		}
+	}
+}
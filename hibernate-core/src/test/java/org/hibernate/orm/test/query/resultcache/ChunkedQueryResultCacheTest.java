@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.resultcache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the caching of query results in chunks, which allows scrolled and streamed
+ * results to be cached, and partially cached results to be completed from the database.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_CHUNK_SIZE, value = "3")
+		}
+)
+@DomainModel(annotatedClasses = ChunkedQueryResultCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class ChunkedQueryResultCacheTest {
+
+	private static final List<Integer> ALL_IDS = IntStream.rangeClosed( 1, 10 ).boxed().collect( Collectors.toList() );
+
+	@BeforeEach
+	void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Integer id : ALL_IDS ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	void testListCachedInChunks(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testEntitiesCachedInChunks(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( "from Item i order by i.id", Item.class )
+							.setCacheable( true )
+							.getResultList()
+			).extracting( item -> item.name ).containsExactly(
+					"item 1", "item 2", "item 3", "item 4", "item 5",
+					"item 6", "item 7", "item 8", "item 9", "item 10"
+			) );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testScrollAndStreamCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertThat( scrollIds( session, Integer.MAX_VALUE ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( scrollIds( session, Integer.MAX_VALUE ) ).isEqualTo( ALL_IDS ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+						.setCacheable( true )
+						.stream()
+						.collect( Collectors.toList() )
+		).isEqualTo( ALL_IDS ) );
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void testPartiallyCachedResultsCompletedFromDatabase(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		// only the first chunk is complete, and the end of the results is never reached
+		scope.inTransaction( session -> assertThat( scrollIds( session, 4 ) ).containsExactly( 1, 2, 3, 4 ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+		// a partial read is served by the cached chunk
+		scope.inTransaction( session -> assertThat( scrollIds( session, 2 ) ).containsExactly( 1, 2 ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+		// the rest of the results is read from the database, and cached anew
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testStaleChunksNotUsed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertThat( listIds( session ) ).isEqualTo( ALL_IDS ) );
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item where id > 5" ).executeUpdate() );
+		statistics.clear();
+
+		scope.inTransaction( session -> assertThat( listIds( session ) ).containsExactly( 1, 2, 3, 4, 5 ) );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testEmptyResultsCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final String query = "select i.id from Item i where i.id > 100";
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( query, Integer.class ).setCacheable( true ).getResultList()
+			).isEmpty() );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<Integer> listIds(Session session) {
+		return session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static List<Integer> scrollIds(Session session, int maxRows) {
+		final List<Integer> ids = new ArrayList<>();
+		try ( ScrollableResults<Integer> results = session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.setCacheable( true )
+				.scroll( ScrollMode.FORWARD_ONLY ) ) {
+			while ( ids.size() < maxRows && results.next() ) {
+				ids.add( results.get() );
+			}
+		}
+		return ids;
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.STATISTICS_LATENCY_HISTOGRAMS, value = "true")
+		}
+)
+@DomainModel(annotatedClasses = LatencyHistogramTest.CachedThing.class)
+@SessionFactory(generateStatistics = true)
+public class LatencyHistogramTest {
+
+	@Test
+	void testPercentiles() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		assertThat( histogram.getValueAtPercentile( 99, TimeUnit.NANOSECONDS ) ).isEqualTo( 0 );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( i ) );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getMax( TimeUnit.MICROSECONDS ) ).isEqualTo( 1000 );
+		assertThat( histogram.getMean( TimeUnit.MICROSECONDS ) ).isCloseTo( 500.5, within( 0.01 ) );
+		assertThat( histogram.getValueAtPercentile( 50, TimeUnit.NANOSECONDS ) )
+				.isBetween( 500_000L, 500_000L + 500_000L / 16 );
+		assertThat( histogram.getValueAtPercentile( 99, TimeUnit.NANOSECONDS ) )
+				.isBetween( 990_000L, 990_000L + 990_000L / 16 );
+		assertThat( histogram.getValueAtPercentile( 100, TimeUnit.MICROSECONDS ) ).isEqualTo( 1000 );
+
+		// small latencies are exact
+		final LatencyHistogramImpl other = new LatencyHistogramImpl();
+		other.record( 3 );
+		assertThat( other.getValueAtPercentile( 50, TimeUnit.NANOSECONDS ) ).isEqualTo( 3 );
+
+		final LatencyHistogram merged = histogram.merge( other );
+		assertThat( merged.getCount() ).isEqualTo( 1001 );
+		assertThat( merged.getValueAtPercentile( 0, TimeUnit.NANOSECONDS ) ).isEqualTo( 3 );
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+
+		histogram.reset();
+		assertThat( histogram.getCount() ).isEqualTo( 0 );
+		assertThat( histogram.getMax( TimeUnit.NANOSECONDS ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	void testRecentLatencies() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( int i = 0; i < 1000; i++ ) {
+			histogram.record( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		}
+		final LatencyHistogram snapshot = histogram.snapshot();
+		for ( int i = 0; i < 10; i++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( 10 ) );
+		}
+		assertThat( snapshot.getCount() ).isEqualTo( 1000 );
+
+		// the old slow latencies no longer weigh on the percentiles
+		final LatencyHistogram recent = histogram.since( snapshot );
+		assertThat( recent.getCount() ).isEqualTo( 10 );
+		assertThat( recent.getTotal( TimeUnit.MICROSECONDS ) ).isEqualTo( 100 );
+		assertThat( recent.getValueAtPercentile( 99, TimeUnit.NANOSECONDS ) )
+				.isBetween( 10_000L, 10_000L + 10_000L / 16 );
+		assertThat( recent.getMax( TimeUnit.NANOSECONDS ) ).isBetween( 10_000L, 10_000L + 10_000L / 16 );
+		assertThat( histogram.getValueAtPercentile( 99, TimeUnit.MILLISECONDS ) ).isEqualTo( 100 );
+
+		// after a reset, everything recorded since is recent
+		histogram.reset();
+		histogram.record( 5 );
+		assertThat( histogram.since( snapshot ).getCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testLatenciesRecorded(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> session.persist( new CachedThing( 1 ) ) );
+		assertThat( statistics.getFlushLatencyHistogram().getCount() ).isEqualTo( statistics.getFlushCount() );
+		assertThat( statistics.getConnectLatencyHistogram().getCount() ).isEqualTo( statistics.getConnectCount() );
+		assertThat( statistics.getConnectCount() ).isGreaterThan( 0 );
+
+		scope.inTransaction( session -> session.createSelectionQuery( "from CachedThing", CachedThing.class ).getResultList() );
+		assertThat( statistics.getQueryExecutionLatencyHistogram().getCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( CachedThing.class, 1 ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheGetLatencyHistogram().getCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		assertThat( statistics.getSecondLevelCacheGetLatencyHistogram().getCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "CachedThing")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class CachedThing {
+		@Id
+		private Integer id;
+
+		public CachedThing() {
+		}
+
+		public CachedThing(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsListener;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"))
+@DomainModel(annotatedClasses = StatisticsListenerTest.Thing.class)
+@SessionFactory(generateStatistics = true)
+public class StatisticsListenerTest {
+
+	@Test
+	void testListenerNotified(SessionFactoryScope scope) {
+		final List<String> events = new ArrayList<>();
+		scope.getSessionFactory().getStatistics().addListener( new StatisticsListener() {
+			@Override
+			public void queryExecuted(String query, int rows, long time) {
+				events.add( "executed " + query + " " + rows );
+			}
+
+			@Override
+			public void queryCacheHit(String query, String regionName) {
+				events.add( "hit " + query );
+			}
+
+			@Override
+			public void queryCacheMiss(String query, String regionName) {
+				events.add( "miss " + query );
+			}
+
+			@Override
+			public void queryCachePut(String query, String regionName) {
+				events.add( "put " + query );
+			}
+		} );
+
+		final String query = "select t.id from Thing t";
+		scope.inTransaction( session -> session.persist( new Thing( 1 ) ) );
+		scope.inTransaction( session -> session.createSelectionQuery( query, Integer.class ).getResultList() );
+		scope.inTransaction( session -> session.createSelectionQuery( query, Integer.class ).setCacheable( true ).getResultList() );
+		scope.inTransaction( session -> session.createSelectionQuery( query, Integer.class ).setCacheable( true ).getResultList() );
+
+		assertThat( events ).containsExactly(
+				"executed " + query + " 1",
+				"miss " + query,
+				"put " + query,
+				"executed " + query + " 1",
+				"hit " + query
+		);
+	}
+
+	@Entity(name = "Thing")
+	public static class Thing {
+		@Id
+		private Integer id;
+
+		public Thing() {
+		}
+
+		public Thing(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -144,6 +144,30 @@ public interface AuditReader {
 			throws IllegalArgumentException, NotAuditedException,
 			IllegalStateException;
 
+	/**
+	 * Get a page of the revision numbers, at which an entity was modified, starting after the given revision.
+	 * The next page is obtained by passing the last revision number of a page as {@code afterRevision}, so that
+	 * the revisions of an entity with a long history are read page by page, without skipping over the rows of the
+	 * previous pages.
+	 *
+	 * @param cls Class of the entity.
+	 * @param primaryKey Primary key of the entity.
+	 * @param afterRevision The revision number after which the revisions are returned, or {@code null} to start
+	 * with the first revision.
+	 * @param maxResults The maximum number of revision numbers returned.
+	 *
+	 * @return A list of at most {@code maxResults} revision numbers greater than {@code afterRevision}, at which
+	 *         the entity was modified, sorted in ascending order.
+	 *
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalArgumentException If cls or primaryKey is null, or maxResults is not positive.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 6.2
+	 */
+	List<Number> getRevisions(Class<?> cls, Object primaryKey, Number afterRevision, int maxResults)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get the date, at which a revision was created.
 	 *
@@ -7,6 +7,8 @@
 package org.hibernate.envers.boot.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.engine.config.spi.ConfigurationService;
@@ -20,6 +22,7 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.AsyncAuditWriter;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -115,6 +118,21 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start the asynchronous audit writer, and write its queued audit data before the SessionFactory closes
+		final AsyncAuditWriter asyncAuditWriter = enversService.getAuditProcessManager().getAsyncAuditWriter();
+		if ( asyncAuditWriter != null ) {
+			asyncAuditWriter.start( sessionFactory );
+			sessionFactory.addObserver(
+					new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							asyncAuditWriter.stop();
+						}
+					}
+			);
+		}
 	}
 
 	@Override
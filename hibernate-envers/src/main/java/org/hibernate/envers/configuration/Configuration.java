@@ -50,6 +50,7 @@ public class Configuration {
 	private static final String DEFAULT_REVEND_FIELD = "REVEND";
 	private static final String DEFAULT_REV_TSTMP_FIELD = "REVEND_TSTMP";
 	private static final String DEFAULT_SETORDINAL_FIELD = "SETORDINAL";
+	private static final int DEFAULT_ASYNC_AUDIT_QUEUE_CAPACITY = 10_000;
 
 	private final EnversService enversService;
 
@@ -73,6 +74,8 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean asyncAuditWritingEnabled;
+	private final int asyncAuditQueueCapacity;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -91,6 +94,8 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndIndexEnabled;
+	private final int batchFetchSize;
 	private final boolean revisionSequenceNoCache;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
@@ -133,6 +138,14 @@ public class Configuration {
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
 
+		asyncAuditWritingEnabled = configProps.getBoolean( EnversSettings.ASYNC_AUDIT_WRITING, false );
+		asyncAuditQueueCapacity = configProps.getInteger( EnversSettings.ASYNC_AUDIT_QUEUE_CAPACITY, DEFAULT_ASYNC_AUDIT_QUEUE_CAPACITY );
+
+		batchFetchSize = configProps.getInteger(
+				EnversSettings.BATCH_FETCH_SIZE,
+				configProps.getInteger( Environment.DEFAULT_BATCH_FETCH_SIZE, 1 )
+		);
+
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
 
@@ -172,6 +185,8 @@ public class Configuration {
 			revisionEndTimestampUseLegacyPlacement = true;
 		}
 
+		revisionEndIndexEnabled = configProps.getBoolean( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, true );
+
 		embeddableSetOrdinalPropertyName = configProps.getString(
 				EnversSettings.EMBEDDABLE_SET_ORDINAL_FIELD_NAME,
 				DEFAULT_SETORDINAL_FIELD
@@ -238,6 +253,14 @@ public class Configuration {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isAsyncAuditWritingEnabled() {
+		return asyncAuditWritingEnabled;
+	}
+
+	public int getAsyncAuditQueueCapacity() {
+		return asyncAuditQueueCapacity;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
@@ -250,6 +273,14 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	public boolean isRevisionEndIndexEnabled() {
+		return revisionEndIndexEnabled;
+	}
+
 	public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
@@ -437,6 +468,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInteger(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
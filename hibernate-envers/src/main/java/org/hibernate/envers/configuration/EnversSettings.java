@@ -186,6 +186,58 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether the schema export should create an index of the identifier columns and the end revision
+	 * column of the audit tables of root entities, when the {@code ValidityAuditStrategy} is used.
+	 * The index allows to find the row of an entity valid at a revision, and the row whose end revision
+	 * is updated, with an index range scan.
+	 *
+	 * Defaults to {@literal true}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_INDEX = "org.hibernate.envers.audit_strategy_validity_revend_index";
+
+	/**
+	 * The maximum number of historical entities referenced by lazy to-one relations of entities read by the
+	 * {@code AuditReader}, which are loaded with a single query when one of them is accessed.  The entities
+	 * of the same entity name, read at the same revision, are loaded together.
+	 *
+	 * Defaults to the value of {@value org.hibernate.cfg.AvailableSettings#DEFAULT_BATCH_FETCH_SIZE}, or to
+	 * {@literal 1}, which disables batch fetching.
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_FETCH_SIZE = "org.hibernate.envers.batch_fetch_size";
+
+	/**
+	 * Whether the audit data of a transaction should be written asynchronously, after the
+	 * transaction commits, by a background thread using its own sessions and connections,
+	 * instead of being written within the transaction.  The audit data of several
+	 * transactions is then written in a single transaction, in JDBC batches.
+	 * <p>
+	 * The revision entity is created, and the {@link org.hibernate.envers.RevisionListener}
+	 * called, when the transaction completes.  The audit data is lost if it cannot be
+	 * written, or if the JVM terminates before it is written.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.2
+	 */
+	String ASYNC_AUDIT_WRITING = "org.hibernate.envers.async_audit_writing";
+
+	/**
+	 * The number of committed transactions whose audit data may wait to be written when
+	 * {@linkplain #ASYNC_AUDIT_WRITING asynchronous audit writing} is enabled.  When the
+	 * queue is full, committing transactions wait for the audit data of previous
+	 * transactions to be written.
+	 *
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @since 6.2
+	 */
+	String ASYNC_AUDIT_QUEUE_CAPACITY = "org.hibernate.envers.async_audit_queue_capacity";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
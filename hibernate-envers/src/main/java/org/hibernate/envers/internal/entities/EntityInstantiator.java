@@ -83,6 +83,8 @@ public class EntityInstantiator {
 		// Putting the newly created entity instance into the first level cache, in case a one-to-one bidirectional
 		// relation is present (which is eagerly loaded).
 		versionsReader.getFirstLevelCache().put( entityName, revision, primaryKey, ret );
+		// The entity no longer needs to be batch fetched, whichever query it was read by
+		versionsReader.getToOneBatchFetchQueue().remove( entityName, revision, primaryKey );
 
 		enversService.getEntitiesConfigurations().get( entityName ).getPropertyMapper().mapToEntityFromMap(
 				enversService,
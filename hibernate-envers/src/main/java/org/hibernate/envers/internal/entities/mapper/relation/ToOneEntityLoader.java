@@ -36,6 +36,17 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			if ( !versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+				versionsReader.getToOneBatchFetchQueue().loadBatch(
+						versionsReader,
+						entityClass,
+						entityName,
+						entityId,
+						revision,
+						removed,
+						enversService
+				);
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -59,6 +70,11 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( enversService.getConfig().getBatchFetchSize() > 1
+				&& enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			// Audited relation, load the entity together with the other pending entities of the reader
+			versionsReader.getToOneBatchFetchQueue().add( entityName, revision, removed, entityId );
+		}
 		return persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
@@ -27,6 +27,7 @@ import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.AuditQueryCreator;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.proxy.HibernateProxy;
@@ -47,6 +48,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final ToOneBatchFetchQueue toOneBatchFetchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -58,6 +60,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		toOneBatchFetchQueue = new ToOneBatchFetchQueue();
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -82,6 +85,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public ToOneBatchFetchQueue getToOneBatchFetchQueue() {
+		return toOneBatchFetchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -162,6 +170,26 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 				.getResultList();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Number> getRevisions(Class<?> cls, Object primaryKey, Number afterRevision, int maxResults)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( primaryKey, "Primary key" );
+		checkPositive( maxResults, "Maximum number of results" );
+		checkSession();
+
+		final AuditQuery query = createQuery().forRevisionsOfEntity( cls, cls.getName(), false, true )
+				.addProjection( AuditEntity.revisionNumber() )
+				.addOrder( AuditEntity.revisionNumber().asc() )
+				.add( AuditEntity.id().eq( primaryKey ) );
+		if ( afterRevision != null ) {
+			query.add( AuditEntity.revisionNumber().gt( afterRevision ) );
+		}
+		return query.setMaxResults( maxResults ).getResultList();
+	}
+
 	@Override
 	public Date getRevisionDate(Number revision)
 			throws IllegalArgumentException, RevisionDoesNotExistException, IllegalStateException {
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
+import org.hibernate.envers.internal.tools.Triple;
+import org.hibernate.envers.query.AuditEntity;
+
+import static org.hibernate.envers.internal.tools.Tools.newHashMap;
+import static org.hibernate.envers.internal.tools.Triple.make;
+
+/**
+ * Keeps the identifiers of the historical entities referenced by the uninitialized to-one proxies
+ * created by an audit reader, so that they are loaded together, with a single query, when one of
+ * the proxies is initialized, in the way the {@link org.hibernate.engine.spi.BatchFetchQueue} loads
+ * the entities of the proxies of a session.
+ * <p>
+ * The identifiers are grouped by entity name, revision and whether deleted entities are included,
+ * since the entities of a group are read by one query.  The loaded entities are put in the
+ * {@link FirstLevelCache}, from which the proxies are then initialized.
+ */
+public class ToOneBatchFetchQueue {
+	/**
+	 * the identifiers of the entities to load, per entity name, revision and inclusion of deletions
+	 */
+	private final Map<Triple<String, Number, Boolean>, Set<Object>> pendingIds;
+
+	public ToOneBatchFetchQueue() {
+		pendingIds = newHashMap();
+	}
+
+	/**
+	 * Registers the identifier of an entity referenced by an uninitialized proxy.
+	 */
+	public void add(String entityName, Number revision, boolean removed, Object id) {
+		pendingIds.computeIfAbsent( make( entityName, revision, removed ), k -> new LinkedHashSet<>() ).add( id );
+	}
+
+	/**
+	 * Unregisters the identifier of an entity which was put in the first level cache of the reader,
+	 * whether or not deleted entities were included when it was read.
+	 */
+	public void remove(String entityName, Number revision, Object id) {
+		if ( !pendingIds.isEmpty() ) {
+			remove( make( entityName, revision, false ), id );
+			remove( make( entityName, revision, true ), id );
+		}
+	}
+
+	private void remove(Triple<String, Number, Boolean> key, Object id) {
+		final Set<Object> pending = pendingIds.get( key );
+		if ( pending != null && pending.remove( id ) && pending.isEmpty() ) {
+			pendingIds.remove( key );
+		}
+	}
+
+	public boolean isEmpty() {
+		return pendingIds.isEmpty();
+	}
+
+	/**
+	 * Loads the given entity, together with up to {@code batchSize - 1} other pending entities of the same
+	 * entity name and revision, into the first level cache of the reader.  Nothing is loaded if batch
+	 * fetching is disabled, or the entity has a composite identifier.
+	 */
+	public void loadBatch(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object id,
+			Number revision,
+			boolean removed,
+			EnversService enversService) {
+		final int batchSize = enversService.getConfig().getBatchFetchSize();
+		final Set<Object> pending = pendingIds.get( make( entityName, revision, removed ) );
+		if ( batchSize <= 1 || pending == null ) {
+			return;
+		}
+
+		final Triple<String, Number, Boolean> key = make( entityName, revision, removed );
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+		if ( !( idMapper instanceof SingleIdMapper ) ) {
+			pendingIds.remove( key );
+			return;
+		}
+
+		final FirstLevelCache firstLevelCache = versionsReader.getFirstLevelCache();
+		final List<Object> ids = new ArrayList<>( batchSize );
+		ids.add( id );
+		pending.remove( id );
+		final Iterator<Object> iterator = pending.iterator();
+		while ( iterator.hasNext() && ids.size() < batchSize ) {
+			final Object pendingId = iterator.next();
+			iterator.remove();
+			if ( !firstLevelCache.contains( entityName, revision, pendingId ) ) {
+				ids.add( pendingId );
+			}
+		}
+		if ( pending.isEmpty() ) {
+			pendingIds.remove( key );
+		}
+		if ( ids.size() == 1 ) {
+			return;
+		}
+
+		final List<?> entities = versionsReader.createQuery()
+				.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+				.add( AuditEntity.id().in( ids ) )
+				.getResultList();
+		// the entities of subclasses are cached under their own entity name by the entity instantiator
+		for ( Object entity : entities ) {
+			final Object entityId = idMapper.mapToIdFromEntity( entity );
+			if ( !firstLevelCache.contains( entityName, revision, entityId ) ) {
+				firstLevelCache.put( entityName, revision, entityId, entity );
+			}
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.tools.Pair;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit data of committed transactions in a background thread, when
+ * {@value EnversSettings#ASYNC_AUDIT_WRITING} is enabled.
+ * <p>
+ * The {@link AuditProcess}es of committed transactions are queued in a bounded queue,
+ * and written in the order of the commits.  The audit data of several transactions is
+ * written in a single transaction of a new session, unless they audit the same entity,
+ * so that the inserts are batched.  If that transaction fails, the audit data of each
+ * transaction is written again in its own transaction, so that only the audit data which
+ * cannot be written is lost.
+ */
+public class AsyncAuditWriter {
+	private static final Logger log = Logger.getLogger( AsyncAuditWriter.class );
+
+	// the maximum number of revisions written in one transaction
+	private static final int MAX_REVISIONS_PER_TRANSACTION = 100;
+	// the JDBC batch size of the writer sessions, if batching is not enabled
+	private static final int DEFAULT_JDBC_BATCH_SIZE = 50;
+	private static final long POLL_MILLIS = 100;
+
+	private final BlockingQueue<AuditProcess> queue;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Thread thread;
+	private volatile boolean stopped;
+
+	public AsyncAuditWriter(int capacity) {
+		this.queue = new ArrayBlockingQueue<>( capacity );
+	}
+
+	/**
+	 * Starts the background thread writing the audit data with sessions of the given factory.
+	 */
+	public synchronized void start(SessionFactoryImplementor sessionFactory) {
+		if ( thread != null ) {
+			throw new IllegalStateException( "The asynchronous audit writer is already started" );
+		}
+		this.sessionFactory = sessionFactory;
+		thread = new Thread( this::run, "Envers audit writer" );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	/**
+	 * Queues the audit data of a committed transaction, waiting if the queue is full.
+	 * Once the writer is stopped, the audit data is written synchronously instead.
+	 */
+	public void submit(AuditProcess process) {
+		if ( stopped ) {
+			writeSynchronously( process );
+			return;
+		}
+		try {
+			queue.put( process );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AuditException( "Interrupted while queueing audit data", e );
+		}
+		// the background thread may have terminated before the process was queued
+		if ( stopped && queue.remove( process ) ) {
+			writeSynchronously( process );
+		}
+	}
+
+	private void writeSynchronously(AuditProcess process) {
+		log.debug( "The asynchronous audit writer is stopped, writing the audit data synchronously" );
+		writeInTransaction( Collections.singletonList( process ) );
+	}
+
+	/**
+	 * Writes the queued audit data, and stops the background thread.
+	 */
+	public synchronized void stop() {
+		if ( stopped ) {
+			return;
+		}
+		stopped = true;
+		if ( thread != null ) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void run() {
+		final List<AuditProcess> processes = new ArrayList<>();
+		final Set<Pair<String, Object>> auditedEntities = new HashSet<>();
+		AuditProcess next = null;
+		while ( next != null || !stopped || !queue.isEmpty() ) {
+			try {
+				if ( next == null ) {
+					next = queue.poll( POLL_MILLIS, TimeUnit.MILLISECONDS );
+				}
+				// take the following processes as long as they audit other entities
+				while ( next != null
+						&& processes.size() < MAX_REVISIONS_PER_TRANSACTION
+						&& !containsAny( auditedEntities, next.getAuditedEntities() ) ) {
+					processes.add( next );
+					auditedEntities.addAll( next.getAuditedEntities() );
+					next = queue.poll();
+				}
+			}
+			catch (InterruptedException e) {
+				// the thread is only stopped by stop()
+				continue;
+			}
+
+			if ( !processes.isEmpty() ) {
+				write( processes );
+				processes.clear();
+				auditedEntities.clear();
+			}
+		}
+	}
+
+	private static boolean containsAny(Set<Pair<String, Object>> entities, Set<Pair<String, Object>> others) {
+		for ( Pair<String, Object> other : others ) {
+			if ( entities.contains( other ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void write(List<AuditProcess> processes) {
+		if ( !writeInTransaction( processes ) && processes.size() > 1 ) {
+			// write each revision in its own transaction, so that one failing revision
+			// does not cause the audit data of the other revisions to be lost
+			for ( AuditProcess process : processes ) {
+				writeInTransaction( Collections.singletonList( process ) );
+			}
+		}
+	}
+
+	/**
+	 * Writes the audit data of the given processes in a single transaction of a new session.
+	 * The failure to write the audit data of a single process is logged as an error, since
+	 * its audit data is lost.
+	 *
+	 * @return {@code true} if the transaction committed
+	 */
+	private boolean writeInTransaction(List<AuditProcess> processes) {
+		try ( Session session = sessionFactory.withOptions().noInterceptor().openSession() ) {
+			if ( sessionFactory.getSessionFactoryOptions().getJdbcBatchSize() <= 1 ) {
+				session.setJdbcBatchSize( DEFAULT_JDBC_BATCH_SIZE );
+			}
+			final Transaction transaction = session.beginTransaction();
+			try {
+				for ( AuditProcess process : processes ) {
+					process.write( session );
+				}
+				session.flush();
+				transaction.commit();
+				return true;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+		catch (RuntimeException e) {
+			if ( processes.size() == 1 ) {
+				log.error( "Unable to write the audit data of a revision, the audit data is lost", e );
+			}
+			else {
+				log.debugf( e, "Unable to write the audit data of %s revisions, writing them one by one", processes.size() );
+			}
+			return false;
+		}
+	}
+}
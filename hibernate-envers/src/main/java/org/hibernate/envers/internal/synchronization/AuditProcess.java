@@ -10,9 +10,11 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.exception.AuditException;
@@ -30,24 +32,29 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
-	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final AsyncAuditWriter asyncAuditWriter;
 	private Object revisionData;
+	private Object auditStrategyState;
 
-	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null );
+	}
+
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, AsyncAuditWriter asyncAuditWriter) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
-		this.session = session;
+		this.asyncAuditWriter = asyncAuditWriter;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
-		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
+		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator );
 	}
 
 	public void cacheEntityState(Object id, String entityName, Object[] snapshot) {
@@ -127,6 +134,61 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 	}
 
+	/**
+	 * The state kept by the {@link org.hibernate.envers.strategy.AuditStrategy} for this
+	 * process, if any, such as the end revision updates which the validity strategy
+	 * executes together.
+	 */
+	public Object getAuditStrategyState() {
+		return auditStrategyState;
+	}
+
+	public void setAuditStrategyState(Object auditStrategyState) {
+		this.auditStrategyState = auditStrategyState;
+	}
+
+	/**
+	 * The entities audited by this process, used by the {@link AsyncAuditWriter} to keep
+	 * the audit data of the same entity in different revisions in separate transactions.
+	 */
+	Set<Pair<String, Object>> getAuditedEntities() {
+		return usedIds.keySet();
+	}
+
+	/**
+	 * Writes the audit data of a committed transaction, from the {@link AsyncAuditWriter}.
+	 * The session is flushed by the writer.  The work units are kept, so that the audit
+	 * data can be written again in another session if the transaction of the writer fails.
+	 */
+	void write(Session session) {
+		// Making sure the revision data is persisted.
+		final Object currentRevisionData = getCurrentRevisionData( session, true );
+
+		for ( AuditWorkUnit vwu : undoQueue ) {
+			vwu.setSessionImplementor( (SessionImplementor) session );
+			vwu.undo( session );
+		}
+
+		for ( AuditWorkUnit vwu : workUnits ) {
+			vwu.setSessionImplementor( (SessionImplementor) session );
+			vwu.perform( session, revisionData );
+			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+		}
+	}
+
+	/**
+	 * Releases the session in which the work units were created, before this process is
+	 * queued by the {@link AsyncAuditWriter}, since that session is about to be closed.
+	 */
+	private void releaseSession() {
+		for ( AuditWorkUnit vwu : undoQueue ) {
+			vwu.setSessionImplementor( null );
+		}
+		for ( AuditWorkUnit vwu : workUnits ) {
+			vwu.setSessionImplementor( null );
+		}
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -152,6 +214,21 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			return;
 		}
 
+		// The revision data must be persisted by this transaction if the application already asked for that
+		if ( asyncAuditWriter != null && ( revisionData == null || !session.contains( revisionData ) ) ) {
+			// Generating the revision data now, so that the revision listener runs in the transaction's thread
+			getCurrentRevisionData( session, false );
+			session.getActionQueue().registerProcess(
+					(AfterTransactionCompletionProcess) (success, sessionImplementor) -> {
+						if ( success ) {
+							releaseSession();
+							asyncAuditWriter.submit( this );
+						}
+					}
+			);
+			return;
+		}
+
 		// see: http://www.jboss.com/index.html?module=bb&op=viewtopic&p=4178431
 		if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.isClosed() ) {
 			Session temporarySession = null;
@@ -23,11 +23,24 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AsyncAuditWriter asyncAuditWriter;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, AsyncAuditWriter asyncAuditWriter) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.asyncAuditWriter = asyncAuditWriter;
+	}
+
+	/**
+	 * The writer of the audit data, if it is written asynchronously.
+	 */
+	public AsyncAuditWriter getAsyncAuditWriter() {
+		return asyncAuditWriter;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +49,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, asyncAuditWriter );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
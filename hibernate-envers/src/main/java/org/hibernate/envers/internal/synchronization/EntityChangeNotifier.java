@@ -20,11 +20,9 @@ import org.hibernate.envers.internal.tools.EntityTools;
  */
 public class EntityChangeNotifier {
 	private final RevisionInfoGenerator revisionInfoGenerator;
-	private final SessionImplementor sessionImplementor;
 
-	public EntityChangeNotifier(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor sessionImplementor) {
+	public EntityChangeNotifier(RevisionInfoGenerator revisionInfoGenerator) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
-		this.sessionImplementor = sessionImplementor;
 	}
 
 	/**
@@ -42,7 +40,7 @@ public class EntityChangeNotifier {
 			// Notify about a change in collection owner entity.
 			entityId = ( (PersistentCollectionChangeWorkUnit.PersistentCollectionChangeWorkUnitId) entityId ).getOwnerId();
 		}
-		final Class entityClass = EntityTools.getEntityClass( sessionImplementor, vwu.getEntityName() );
+		final Class entityClass = EntityTools.getEntityClass( (SessionImplementor) session, vwu.getEntityName() );
 		revisionInfoGenerator.entityChanged(
 				entityClass,
 				vwu.getEntityName(),
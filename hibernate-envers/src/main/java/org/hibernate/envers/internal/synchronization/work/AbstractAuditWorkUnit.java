@@ -24,7 +24,7 @@ import org.hibernate.envers.strategy.AuditStrategy;
  * @author Chris Cranford
  */
 public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
-	protected final SessionImplementor sessionImplementor;
+	protected SessionImplementor sessionImplementor;
 	protected final EnversService enversService;
 	protected final Object id;
 	protected final String entityName;
@@ -69,6 +69,11 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public void setSessionImplementor(SessionImplementor sessionImplementor) {
+		this.sessionImplementor = sessionImplementor;
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
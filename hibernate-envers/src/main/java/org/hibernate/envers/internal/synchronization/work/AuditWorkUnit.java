@@ -9,6 +9,7 @@ package org.hibernate.envers.internal.synchronization.work;
 import java.util.Map;
 
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.RevisionType;
 
 /**
@@ -48,4 +49,13 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 * @return Performed modification type.
 	 */
 	RevisionType getRevisionType();
+
+	/**
+	 * Replaces the session used to generate the audit data of this work unit, when the work
+	 * unit is performed after the session in which it was created was closed, that is, by the
+	 * {@link org.hibernate.envers.internal.synchronization.AsyncAuditWriter}.
+	 *
+	 * @param sessionImplementor The session, or {@code null} to release the current session
+	 */
+	void setSessionImplementor(SessionImplementor sessionImplementor);
 }
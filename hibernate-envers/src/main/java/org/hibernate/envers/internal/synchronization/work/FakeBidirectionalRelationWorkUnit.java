@@ -102,6 +102,12 @@ public class FakeBidirectionalRelationWorkUnit extends AbstractAuditWorkUnit imp
 		return nestedData;
 	}
 
+	@Override
+	public void setSessionImplementor(SessionImplementor sessionImplementor) {
+		super.setSessionImplementor( sessionImplementor );
+		nestedWorkUnit.setSessionImplementor( sessionImplementor );
+	}
+
 	@Override
 	public AuditWorkUnit merge(AddWorkUnit second) {
 		return merge( this, nestedWorkUnit, second );
@@ -11,23 +11,28 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.model.Attribute;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.ManyToOneAttribute;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.metadata.RevisionInfoHelper;
 import org.hibernate.envers.exception.AuditException;
@@ -35,6 +40,7 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -42,10 +48,12 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.mapping.Constraint;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
@@ -112,6 +120,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			);
 
 			mappingContext.getEntityMapping().addAttribute( revEndMapping );
+
+			if ( mappingContext.getConfiguration().isRevisionEndIndexEnabled() ) {
+				addRevisionEndIndex( mappingContext, revEndMapping );
+			}
 		}
 
 		if ( mappingContext.getConfiguration().isRevisionEndTimestampEnabled() ) {
@@ -148,6 +160,42 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	/**
+	 * Adds an index of the identifier columns and the end revision column to the audit table
+	 * of a root entity.  The index serves the lookups of the row of an entity valid at a
+	 * revision, {@code e.id = :id and e.revision <= :revision and e.endRevision > :revision},
+	 * and of the row whose end revision is updated, {@code e.id = :id and e.endRevision is null}.
+	 */
+	private static void addRevisionEndIndex(MappingContext mappingContext, Attribute revEndMapping) {
+		if ( !( mappingContext.getEntityMapping() instanceof RootPersistentEntity ) ) {
+			return;
+		}
+		final RootPersistentEntity entity = (RootPersistentEntity) mappingContext.getEntityMapping();
+		if ( entity.getIdentifier() == null ) {
+			return;
+		}
+
+		final String revisionFieldName = mappingContext.getConfiguration().getRevisionFieldName();
+		final String revEndColumnName = mappingContext.getConfiguration().getRevisionEndFieldName();
+		final String indexName = "IDX" + Constraint.hashedName(
+				"table`" + entity.getAuditTableData().getAuditTableName() + "`column`" + revEndColumnName + "`"
+		);
+		for ( Attribute attribute : entity.getIdentifier().getAttributes() ) {
+			if ( !revisionFieldName.equals( attribute.getName() ) ) {
+				for ( Column column : attribute.getColumns() ) {
+					addIndex( column, indexName );
+				}
+			}
+		}
+		for ( Column column : revEndMapping.getColumns() ) {
+			addIndex( column, indexName );
+		}
+	}
+
+	private static void addIndex(Column column, String indexName) {
+		column.setIndex( column.getIndex() == null ? indexName : column.getIndex() + "," + indexName );
+	}
+
 	@Override
 	public void perform(
 			final Session session,
@@ -171,46 +219,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+			// The updates of all entities are collected by a single process, so that they can be batched.
+			getRevisionEndUpdates( (EventSource) session, configuration ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							reuseEntityIdentifier && getRevisionType( configuration, data ) == RevisionType.ADD
+					)
+			);
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -455,6 +474,22 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	/**
+	 * The end revision updates waiting to be executed are kept by the audit process of the
+	 * transaction, so that this strategy, which is shared by all sessions, has no state of
+	 * its own.
+	 */
+	private RevisionEndUpdates getRevisionEndUpdates(EventSource session, Configuration configuration) {
+		final AuditProcess auditProcess = configuration.getEnversService().getAuditProcessManager().get( session );
+		RevisionEndUpdates updates = (RevisionEndUpdates) auditProcess.getAuditStrategyState();
+		if ( updates == null ) {
+			updates = new RevisionEndUpdates( auditProcess );
+			auditProcess.setAuditStrategyState( updates );
+			session.getActionQueue().registerProcess( updates );
+		}
+		return updates;
+	}
+
 	/**
 	 * Executes the {@link UpdateContext} within the scope of the specified session.
 	 *
@@ -485,6 +520,68 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Executes the {@link UpdateContext}s of the same SQL update as a JDBC batch, or several
+	 * batches if there are more of them than the batch size, and verifies their row counts.
+	 *
+	 * @param session the session
+	 * @param sql the SQL update shared by the update contexts
+	 * @param contexts the update contexts to be executed
+	 * @param batchSize the JDBC batch size, greater than one
+	 */
+	private void executeBatch(SessionImplementor session, String sql, List<UpdateContext> contexts, int batchSize) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		//noinspection deprecation
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			for ( int start = 0; start < contexts.size(); start += batchSize ) {
+				final List<UpdateContext> batch = contexts.subList( start, Math.min( start + batchSize, contexts.size() ) );
+				for ( UpdateContext context : batch ) {
+					int index = 1;
+					for ( QueryParameterBinding binding : context.getBindings() ) {
+						index += binding.bind( index, statement, session );
+					}
+					statement.addBatch();
+				}
+
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					// the driver may not tell how many rows were updated
+					if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+						batch.get( i ).getUpdate().verifyRowCount( rowCounts[i] );
+					}
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to execute batch of end revision updates",
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static int getJdbcBatchSize(SessionImplementor session) {
+		final Integer sessionBatchSize = session.getJdbcCoordinator().getJdbcSessionOwner().getJdbcBatchSize();
+		return sessionBatchSize == null
+				? session.getFactory().getSessionFactoryOptions().getJdbcBatchSize()
+				: sessionBatchSize;
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -654,11 +751,120 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * The end revision update of the previous audit row of an entity.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		// When application reuses identifiers of previously removed entities
+		private final boolean allowNoRowUpdated;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean allowNoRowUpdated) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.allowNoRowUpdated = allowNoRowUpdated;
+		}
+
+		public void verifyRowCount(int rows) {
+			if ( rows != 1 && !allowNoRowUpdated ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								auditedEntityName,
+								id,
+								rows
+						)
+				);
+			}
+		}
+	}
+
+	/**
+	 * Executes the end revision updates of a session before the transaction completes, after
+	 * the audit rows were inserted.  The updates of the same audit table are executed as JDBC
+	 * batches, when JDBC batching is enabled.
+	 */
+	private class RevisionEndUpdates implements BeforeTransactionCompletionProcess {
+		private final AuditProcess auditProcess;
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		public RevisionEndUpdates(AuditProcess auditProcess) {
+			this.auditProcess = auditProcess;
+		}
+
+		public void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			// updates added from now on are executed by a new process
+			auditProcess.setAuditStrategyState( null );
+
+			// Construct the update contexts, grouped by SQL, that is, by audit table
+			final Map<String, List<UpdateContext>> contextsBySql = new LinkedHashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName,
+						update.auditedEntityName,
+						sessionImplementor,
+						update.configuration,
+						update.id,
+						update.revision
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName,
+									update.id
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					context.setUpdate( update );
+					contextsBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+							.add( context );
+				}
+			}
+
+			final int batchSize = getJdbcBatchSize( sessionImplementor );
+			for ( Map.Entry<String, List<UpdateContext>> entry : contextsBySql.entrySet() ) {
+				if ( batchSize > 1 && entry.getValue().size() > 1 ) {
+					executeBatch( sessionImplementor, entry.getKey(), entry.getValue(), batchSize );
+				}
+				else {
+					for ( UpdateContext context : entry.getValue() ) {
+						context.getUpdate().verifyRowCount( executeUpdate( sessionImplementor, context ) );
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
 	private static class UpdateContext extends Update {
 		private final List<QueryParameterBinding> bindings = new ArrayList<>( 0 );
+		private RevisionEndUpdate update;
 
 		public UpdateContext(SessionFactoryImplementor sessionFactory) {
 			super ( sessionFactory.getJdbcServices().getDialect() );
@@ -671,6 +877,14 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		public void bind(Object value, Type type) {
 			bindings.add( new QueryParameterBinding( value, type ) );
 		}
+
+		public RevisionEndUpdate getUpdate() {
+			return update;
+		}
+
+		public void setUpdate(RevisionEndUpdate update) {
+			this.update = update;
+		}
 	}
 
 	private static class QueryParameterBinding {
@@ -682,9 +896,9 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			this.value = value;
 		}
 
-		public int bind(int index, PreparedStatement statement, SessionImplementor session) throws SQLException {
+		public int bind(int index, PreparedStatement statement, SharedSessionContractImplementor session) throws SQLException {
 			type.nullSafeSet( statement, value, index, session );
-			return type.getColumnSpan( session.getSessionFactory() );
+			return type.getColumnSpan( session.getFactory() );
 		}
 	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.async;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.EntityTrackingRevisionListener;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the audit data of a transaction which cannot be written asynchronously does
+ * not cause the audit data of the other transactions written with it to be lost, and that
+ * the audit data is written synchronously once the writer is stopped.
+ */
+public class AsyncAuditWritingFailureTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITING, "true" );
+		options.put( EnversSettings.REVISION_LISTENER, FailingRevisionListener.class.getName() );
+	}
+
+	@Test
+	@Priority(10)
+	public void testFailingRevisionWrittenWithOthers() throws InterruptedException {
+		// the writer waits while writing the first revision, so that the following
+		// revisions are queued, and written in the same transaction
+		FailingRevisionListener.gate = new CountDownLatch( 1 );
+		final Integer gateId = persist( "gate", id -> FailingRevisionListener.gateId = id );
+		final Integer id1 = persist( "a" );
+		final Integer failingId = persist( "failing", id -> FailingRevisionListener.failingId = id );
+		final Integer id2 = persist( "b" );
+		FailingRevisionListener.gate.countDown();
+
+		awaitRevisionCount( gateId, 1 );
+		awaitRevisionCount( id1, 1 );
+		awaitRevisionCount( id2, 1 );
+		assertEquals( 1, getAuditReader().getRevisions( StrTestEntity.class, id1 ).size() );
+		assertEquals( 1, getAuditReader().getRevisions( StrTestEntity.class, id2 ).size() );
+		assertTrue( getAuditReader().getRevisions( StrTestEntity.class, failingId ).isEmpty() );
+	}
+
+	@Test
+	@Priority(5)
+	public void testWritingAfterStop() {
+		serviceRegistry().getService( EnversService.class )
+				.getAuditProcessManager()
+				.getAsyncAuditWriter()
+				.stop();
+
+		final Integer id = persist( "c" );
+		assertEquals( 1, getAuditReader().getRevisions( StrTestEntity.class, id ).size() );
+	}
+
+	private Integer persist(String str) {
+		return persist( str, id -> {} );
+	}
+
+	private Integer persist(String str, Consumer<Integer> beforeCommit) {
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( str );
+		em.persist( entity );
+		beforeCommit.accept( entity.getId() );
+		em.getTransaction().commit();
+		em.close();
+		return entity.getId();
+	}
+
+	private void awaitRevisionCount(Integer id, int expected) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		List<Number> revisions = Collections.emptyList();
+		while ( revisions.size() != expected && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+			revisions = getAuditReader().getRevisions( StrTestEntity.class, id );
+		}
+	}
+
+	public static class FailingRevisionListener implements EntityTrackingRevisionListener {
+		static volatile CountDownLatch gate;
+		static volatile Object gateId;
+		static volatile Object failingId;
+
+		@Override
+		public void newRevision(Object revisionEntity) {
+		}
+
+		@Override
+		public void entityChanged(
+				Class entityClass,
+				String entityName,
+				Object entityId,
+				RevisionType revisionType,
+				Object revisionEntity) {
+			if ( entityId.equals( gateId ) ) {
+				try {
+					gate.await( TIMEOUT_MILLIS, TimeUnit.MILLISECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			else if ( entityId.equals( failingId ) ) {
+				throw new IllegalStateException( "Failing audit data of entity " + entityId );
+			}
+		}
+	}
+}
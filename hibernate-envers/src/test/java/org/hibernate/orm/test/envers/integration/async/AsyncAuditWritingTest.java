@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.async;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the audit data written asynchronously, after the transactions commit,
+ * matches the audit data written within the transactions.
+ */
+public class AsyncAuditWritingTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITING, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity1 = new StrTestEntity( "a" );
+		final StrTestEntity entity2 = new StrTestEntity( "x" );
+		em.persist( entity1 );
+		em.persist( entity2 );
+		em.getTransaction().commit();
+		id1 = entity1.getId();
+		id2 = entity2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id1 ).setStr( "b" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id1 ).setStr( "c" );
+		em.remove( em.find( StrTestEntity.class, id2 ) );
+		em.getTransaction().commit();
+
+		em.close();
+
+		awaitRevisions( id1, Arrays.asList( 1, 2, 3 ) );
+		awaitRevisions( id2, Arrays.asList( 1, 3 ) );
+	}
+
+	private void awaitRevisions(Integer id, List<Number> expected) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while ( !expected.equals( getAuditReader().getRevisions( StrTestEntity.class, id ) )
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+	}
+
+	@Test
+	public void testHistoryOfEntities() {
+		assertEquals( new StrTestEntity( "a", id1 ), getAuditReader().find( StrTestEntity.class, id1, 1 ) );
+		assertEquals( new StrTestEntity( "b", id1 ), getAuditReader().find( StrTestEntity.class, id1, 2 ) );
+		assertEquals( new StrTestEntity( "c", id1 ), getAuditReader().find( StrTestEntity.class, id1, 3 ) );
+		assertEquals( new StrTestEntity( "x", id2 ), getAuditReader().find( StrTestEntity.class, id2, 2 ) );
+		assertNull( getAuditReader().find( StrTestEntity.class, id2, 3 ) );
+	}
+}
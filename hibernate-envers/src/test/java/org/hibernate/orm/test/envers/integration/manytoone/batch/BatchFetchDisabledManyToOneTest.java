@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.manytoone.batch;
+
+import java.util.List;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.integration.manytoone.batch.BatchFetchManyToOneTest.Item;
+import org.hibernate.orm.test.envers.integration.manytoone.batch.BatchFetchManyToOneTest.Owner;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the to-one proxies of an audit reader are not tracked when batch fetching is disabled.
+ */
+public class BatchFetchDisabledManyToOneTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Item.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Owner owner = new Owner( i, "owner" + i );
+				entityManager.persist( owner );
+				entityManager.persist( new Item( i, owner ) );
+			}
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testProxiesNotQueued() {
+		final AuditReader reader = getAuditReader();
+		final List<Item> items = reader.createQuery()
+				.forEntitiesAtRevision( Item.class, 1 )
+				.getResultList();
+		assertEquals( 3, items.size() );
+		assertTrue( ( (AuditReaderImplementor) reader ).getToOneBatchFetchQueue().isEmpty() );
+
+		for ( Item item : items ) {
+			assertEquals( "owner" + item.getId(), item.getOwner().getName() );
+		}
+	}
+}
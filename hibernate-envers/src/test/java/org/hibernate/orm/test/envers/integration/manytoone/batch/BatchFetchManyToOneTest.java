@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.manytoone.batch;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.ToOneBatchFetchQueue;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the loading of the historical entities referenced by the to-one relations
+ * of several entities with a single query.
+ */
+public class BatchFetchManyToOneTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ITEM_COUNT = 10;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.BATCH_FETCH_SIZE, "5" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				final Owner owner = new Owner( i, "owner" + i );
+				entityManager.persist( owner );
+				entityManager.persist( new Item( i, owner ) );
+			}
+		} );
+
+		// Revision 2
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				entityManager.find( Owner.class, i ).setName( "renamed" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testOwnersLoadedInBatches() {
+		assertOwnerNames( 1, "owner" );
+		assertOwnerNames( 2, "renamed" );
+	}
+
+	@Test
+	public void testFindAfterBatch() {
+		final AuditReader reader = getAuditReader();
+		final Item item = reader.find( Item.class, 3, 1 );
+		assertEquals( "owner3", item.getOwner().getName() );
+		assertEquals( "owner3", reader.find( Owner.class, 3, 1 ).getName() );
+		assertEquals( "renamed3", reader.find( Owner.class, 3, 2 ).getName() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testPendingOwnersFoundWithoutBatch() {
+		final AuditReader reader = getAuditReader();
+		final List<Item> items = reader.createQuery()
+				.forEntitiesAtRevision( Item.class, 1 )
+				.getResultList();
+		assertEquals( ITEM_COUNT, items.size() );
+		final ToOneBatchFetchQueue queue = ( (AuditReaderImplementor) reader ).getToOneBatchFetchQueue();
+		assertFalse( queue.isEmpty() );
+
+		// the owners read by other queries are no longer pending
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			assertEquals( "owner" + i, reader.find( Owner.class, i, 1 ).getName() );
+		}
+		assertTrue( queue.isEmpty() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertOwnerNames(int revision, String prefix) {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		final List<Item> items = getAuditReader().createQuery()
+				.forEntitiesAtRevision( Item.class, revision )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( ITEM_COUNT, items.size() );
+
+		statistics.clear();
+		for ( Item item : items ) {
+			assertEquals( prefix + item.getId(), item.getOwner().getName() );
+		}
+		// the ten owners are loaded by two queries
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+	}
+
+	@Entity(name = "Owner")
+	@Audited
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		Owner() {
+		}
+
+		Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Audited
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		Item() {
+		}
+
+		Item(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.junit.Test;
+
+import org.hibernate.testing.envers.RequiresAuditStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@code REVEND} updates of many entities, executed as JDBC batches.
+ */
+@RequiresAuditStrategy(ValidityAuditStrategy.class)
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 25;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "b" );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, ids.get( 0 ) ).setStr( "c" );
+		em.remove( em.find( StrTestEntity.class, ids.get( 1 ) ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionEnds() {
+		final EntityManager em = getEntityManager();
+		final List<Object[]> rows = em.createNativeQuery( "select id, REV, REVEND from STR_TEST_AUD order by id, REV" )
+				.getResultList();
+		em.close();
+
+		assertEquals( 2 * ENTITY_COUNT + 2, rows.size() );
+		for ( int i = 0; i < rows.size(); i++ ) {
+			final Object[] row = rows.get( i );
+			final boolean last = i == rows.size() - 1 || !rows.get( i + 1 )[0].equals( row[0] );
+			if ( last ) {
+				assertNull( row[2] );
+			}
+			else {
+				assertEquals( ( (Number) rows.get( i + 1 )[1] ).intValue(), ( (Number) row[2] ).intValue() );
+			}
+		}
+	}
+
+	@Test
+	public void testHistoryOfEntities() {
+		final Integer last = ids.get( ENTITY_COUNT - 1 );
+		assertEquals( "a", getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 1 ).getStr() );
+		assertEquals( "b", getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 2 ).getStr() );
+		assertEquals( "c", getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 3 ).getStr() );
+		assertEquals( "b", getAuditReader().find( StrTestEntity.class, ids.get( 1 ), 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, ids.get( 1 ), 3 ) );
+		assertEquals( "b", getAuditReader().find( StrTestEntity.class, last, 3 ).getStr() );
+	}
+}
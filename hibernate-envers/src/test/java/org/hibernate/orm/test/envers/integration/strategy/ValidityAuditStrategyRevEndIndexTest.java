@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.junit.Test;
+
+import org.hibernate.testing.envers.RequiresAuditStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the index of the identifier and end revision columns of the audit tables,
+ * and the paging of the revisions of an entity.
+ */
+@RequiresAuditStrategy(ValidityAuditStrategy.class)
+public class ValidityAuditStrategyRevEndIndexTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "0" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		id = entity.getId();
+
+		// Revisions 2 - 5
+		for ( int i = 1; i < 5; i++ ) {
+			em.getTransaction().begin();
+			em.find( StrTestEntity.class, id ).setStr( String.valueOf( i ) );
+			em.getTransaction().commit();
+		}
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionEndIndex() {
+		final Table table = metadata().getEntityBinding( StrTestEntity.class.getName() + "_AUD" ).getTable();
+		Index revEndIndex = null;
+		for ( Index index : table.getIndexes().values() ) {
+			for ( Column column : index.getColumns() ) {
+				if ( column.getName().equals( "REVEND" ) ) {
+					revEndIndex = index;
+				}
+			}
+		}
+		assertTrue( revEndIndex != null );
+		assertEquals( 2, revEndIndex.getColumnSpan() );
+		assertEquals( "id", revEndIndex.getColumns().get( 0 ).getName() );
+		assertEquals( "REVEND", revEndIndex.getColumns().get( 1 ).getName() );
+	}
+
+	@Test
+	public void testRevisionPages() {
+		final List<Number> first = getAuditReader().getRevisions( StrTestEntity.class, id, null, 2 );
+		assertEquals( Arrays.asList( 1, 2 ), first );
+		final List<Number> second = getAuditReader().getRevisions( StrTestEntity.class, id, first.get( 1 ), 2 );
+		assertEquals( Arrays.asList( 3, 4 ), second );
+		final List<Number> last = getAuditReader().getRevisions( StrTestEntity.class, id, second.get( 1 ), 2 );
+		assertEquals( Arrays.asList( 5 ), last );
+		assertTrue( getAuditReader().getRevisions( StrTestEntity.class, id, 5, 2 ).isEmpty() );
+	}
+
+	@Test
+	public void testEntitiesAtRevisions() {
+		for ( int i = 0; i < 5; i++ ) {
+			assertEquals( String.valueOf( i ), getAuditReader().find( StrTestEntity.class, id, i + 1 ).getStr() );
+		}
+	}
+}
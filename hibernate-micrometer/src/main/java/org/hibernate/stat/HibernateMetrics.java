@@ -23,6 +23,7 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceException;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -35,6 +36,8 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] LATENCY_PERCENTILES = { 50, 95, 99, 99.9 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -104,6 +107,39 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void latencyPercentiles(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, LatencyHistogram> f) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		final LatencyHistogram histogram = f.apply( statistics );
+		if ( histogram == null ) {
+			// latency histograms are not enabled
+			return;
+		}
+
+		// the histograms of the statistics are cumulative, so the published
+		// percentiles are those of the latencies of the last minutes
+		final RecentLatencyHistogram recentHistogram =
+				new RecentLatencyHistogram( histogram, registry.config().clock() );
+		for ( double percentile : LATENCY_PERCENTILES ) {
+			TimeGauge.builder(
+					name,
+					recentHistogram,
+					TimeUnit.NANOSECONDS,
+					h -> h.getValueAtPercentile( percentile, TimeUnit.NANOSECONDS )
+			)
+					.tags( tags )
+					.tags( "percentile", Double.toString( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -147,6 +183,12 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements reused from the statement cache",
+				Statistics::getPreparedStatementCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements not found in the statement cache",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -335,6 +377,22 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Latency histograms
+		latencyPercentiles(registry, "hibernate.query.executions.latency", "The execution time of queries",
+				Statistics::getQueryExecutionLatencyHistogram
+		);
+		latencyPercentiles(registry, "hibernate.flushes.latency", "The duration of flushes",
+				Statistics::getFlushLatencyHistogram
+		);
+		latencyPercentiles(registry,
+				"hibernate.second.level.cache.requests.latency",
+				"The duration of entity and collection lookups in the second-level cache",
+				Statistics::getSecondLevelCacheGetLatencyHistogram
+		);
+		latencyPercentiles(registry, "hibernate.connections.obtained.latency", "The time taken to obtain a connection",
+				Statistics::getConnectLatencyHistogram
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
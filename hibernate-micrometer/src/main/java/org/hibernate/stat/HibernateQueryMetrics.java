@@ -10,34 +10,70 @@ import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.lang.NonNullApi;
 import io.micrometer.core.lang.NonNullFields;
+import io.micrometer.core.lang.Nullable;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.event.service.spi.EventListenerRegistry;
-import org.hibernate.event.spi.EventType;
-import org.hibernate.event.spi.PostLoadEvent;
-import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.stat.spi.StatisticsListener;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate query metrics. It exposes the
- * same statistics as would be exposed when calling {@link Statistics#getQueryStatistics(String)}.
+ * same statistics as would be exposed when calling {@link Statistics#getQueryStatistics(String)},
+ * but records the execution times in a {@link Timer} with percentiles.
  * Note that only SELECT queries are recorded in {@link QueryStatistics}.
  * <p>
- * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
- * application when considering using this {@link MeterBinder}.
+ * The metrics are recorded as the statistics are collected, by a
+ * {@link StatisticsListener}, and the meters of a query are registered when
+ * the query is first executed.
+ * <p>
+ * To bound the cardinality of the {@code query} tag, the literals in the queries are
+ * replaced by {@code ?}, so that queries which only differ in their literals share
+ * their meters, and the number of distinct tag values is capped: once
+ * {@code maxQueries} queries are tagged, any other query is recorded with the tag
+ * value {@value #OTHER_QUERIES}.
+ * <p>
+ * The listeners stay registered with the {@link SessionFactory} until this
+ * binder is {@linkplain #close() closed}.
  */
 @NonNullApi
 @NonNullFields
-public class HibernateQueryMetrics implements MeterBinder {
+public class HibernateQueryMetrics implements MeterBinder, AutoCloseable {
+
+	/**
+	 * The default maximum number of distinct values of the {@code query} tag
+	 */
+	public static final int DEFAULT_MAX_QUERIES = 100;
+
+	/**
+	 * The value of the {@code query} tag of the queries beyond the maximum number
+	 * of distinct queries
+	 */
+	public static final String OTHER_QUERIES = "other";
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private static final Pattern STRING_LITERAL = Pattern.compile( "'(?:[^']|'')*'" );
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile( "(?<![\\w?:.$])\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?\\w*" );
+	private static final Pattern PARAMETER_LIST = Pattern.compile( "\\?(?:\\s*,\\s*\\?)+" );
+	private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
 
+	private final int maxQueries;
+
+	private final Queue<MetricsStatisticsListener> listeners = new ConcurrentLinkedQueue<>();
+
 	/**
 	 * Create {@code HibernateQueryMetrics} and bind to the specified meter registry.
 	 *
@@ -71,113 +107,195 @@ public class HibernateQueryMetrics implements MeterBinder {
 	}
 
 	/**
-	 * Create a {@code HibernateQueryMetrics}.
+	 * Create a {@code HibernateQueryMetrics}, tagging at most {@value #DEFAULT_MAX_QUERIES}
+	 * distinct queries.
 	 *
 	 * @param sessionFactory session factory to use
 	 * @param sessionFactoryName session factory name as a tag value
 	 * @param tags additional tags
 	 */
 	public HibernateQueryMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, DEFAULT_MAX_QUERIES );
+	}
+
+	/**
+	 * Create a {@code HibernateQueryMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @param maxQueries the maximum number of distinct values of the {@code query} tag
+	 */
+	public HibernateQueryMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			int maxQueries) {
+		if ( maxQueries < 0 ) {
+			throw new IllegalArgumentException( "The maximum number of queries must not be negative" );
+		}
 		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
 		this.sessionFactory = sessionFactory;
+		this.maxQueries = maxQueries;
 	}
 
 	@Override
 	public void bindTo(MeterRegistry meterRegistry) {
 		if ( sessionFactory instanceof SessionFactoryImplementor ) {
-			EventListenerRegistry eventListenerRegistry = ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry()
-					.getService( EventListenerRegistry.class );
-			MetricsEventHandler metricsEventHandler = new MetricsEventHandler( meterRegistry );
-			eventListenerRegistry.appendListeners( EventType.POST_LOAD, metricsEventHandler );
+			final MetricsStatisticsListener listener = new MetricsStatisticsListener( meterRegistry );
+			listeners.add( listener );
+			( (SessionFactoryImplementor) sessionFactory ).getStatistics().addListener( listener );
+		}
+	}
+
+	/**
+	 * Stop recording the metrics in the meter registries this binder was bound to.
+	 */
+	@Override
+	public void close() {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			MetricsStatisticsListener listener;
+			while ( ( listener = listeners.poll() ) != null ) {
+				( (SessionFactoryImplementor) sessionFactory ).getStatistics().removeListener( listener );
+			}
 		}
 	}
 
-	class MetricsEventHandler implements PostLoadEventListener {
+	/**
+	 * Replace the literals of the given query by {@code ?}, collapse lists of
+	 * parameters into a single parameter, and normalize the whitespace.
+	 */
+	static String normalize(String query) {
+		String normalized = STRING_LITERAL.matcher( query ).replaceAll( "?" );
+		normalized = NUMERIC_LITERAL.matcher( normalized ).replaceAll( "?" );
+		normalized = PARAMETER_LIST.matcher( normalized ).replaceAll( "?" );
+		return WHITESPACE.matcher( normalized ).replaceAll( " " ).trim();
+	}
+
+	class MetricsStatisticsListener implements StatisticsListener {
 
 		private final MeterRegistry meterRegistry;
 
-		MetricsEventHandler(MeterRegistry meterRegistry) {
+		/**
+		 * Keyed by the query as executed, to avoid normalizing it on every execution.
+		 * This map is bounded as well, when it is full, queries are normalized anew.
+		 */
+		private final Map<String, QueryMeters> metersByQuery = new ConcurrentHashMap<>();
+
+		/**
+		 * Keyed by the normalized query, this map holds at most {@link #maxQueries} entries.
+		 */
+		private final Map<String, QueryMeters> metersByNormalizedQuery = new ConcurrentHashMap<>();
+
+		@Nullable
+		private volatile QueryMeters otherQueryMeters;
+
+		MetricsStatisticsListener(MeterRegistry meterRegistry) {
 			this.meterRegistry = meterRegistry;
 		}
 
 		@Override
-		public void onPostLoad(PostLoadEvent event) {
-			registerQueryMetric( event.getSession().getFactory().getStatistics() );
+		public void queryExecuted(@Nullable String query, int rows, long time) {
+			if ( query != null ) {
+				final QueryMeters meters = getQueryMeters( query );
+				meters.execution.record( time, TimeUnit.MILLISECONDS );
+				meters.rows.increment( rows );
+			}
+		}
+
+		@Override
+		public void queryCacheHit(@Nullable String query, String regionName) {
+			if ( query != null ) {
+				getQueryMeters( query ).cacheHits.increment();
+			}
+		}
+
+		@Override
+		public void queryCacheMiss(@Nullable String query, String regionName) {
+			if ( query != null ) {
+				getQueryMeters( query ).cacheMisses.increment();
+			}
+		}
+
+		@Override
+		public void queryCachePut(@Nullable String query, String regionName) {
+			if ( query != null ) {
+				getQueryMeters( query ).cachePuts.increment();
+			}
+		}
+
+		QueryMeters getQueryMeters(String query) {
+			final QueryMeters meters = metersByQuery.get( query );
+			if ( meters != null ) {
+				return meters;
+			}
+
+			final QueryMeters normalizedQueryMeters = getNormalizedQueryMeters( normalize( query ) );
+			// queries differing in their literals only are normalized on each execution,
+			// rather than growing this map without bounds
+			if ( metersByQuery.size() < 10L * maxQueries ) {
+				metersByQuery.put( query, normalizedQueryMeters );
+			}
+			return normalizedQueryMeters;
+		}
+
+		private QueryMeters getNormalizedQueryMeters(String normalizedQuery) {
+			final QueryMeters meters = metersByNormalizedQuery.get( normalizedQuery );
+			if ( meters != null ) {
+				return meters;
+			}
+			// concurrent registrations may slightly exceed the maximum, which is acceptable
+			if ( metersByNormalizedQuery.size() < maxQueries ) {
+				return metersByNormalizedQuery.computeIfAbsent( normalizedQuery, QueryMeters::new );
+			}
+			return getOtherQueryMeters();
+		}
+
+		private QueryMeters getOtherQueryMeters() {
+			QueryMeters meters = otherQueryMeters;
+			if ( meters == null ) {
+				// registering the same meters twice returns the meters registered first
+				meters = new QueryMeters( OTHER_QUERIES );
+				otherQueryMeters = meters;
+			}
+			return meters;
 		}
 
-		void registerQueryMetric(Statistics statistics) {
-			for ( String query : statistics.getQueries() ) {
-				QueryStatistics queryStatistics = statistics.getQueryStatistics( query );
+		class QueryMeters {
+			final Counter cacheHits;
+			final Counter cacheMisses;
+			final Counter cachePuts;
+			final Timer execution;
+			final Counter rows;
 
-				FunctionCounter.builder(
-						"hibernate.query.cache.requests",
-						queryStatistics,
-						QueryStatistics::getCacheHitCount
-				)
+			QueryMeters(String query) {
+				cacheHits = Counter.builder( "hibernate.query.cache.requests" )
 						.tags( tags )
 						.tags( "result", "hit", "query", query )
 						.description( "Number of query cache hits" )
 						.register( meterRegistry );
 
-				FunctionCounter.builder(
-						"hibernate.query.cache.requests",
-						queryStatistics,
-						QueryStatistics::getCacheMissCount
-				)
+				cacheMisses = Counter.builder( "hibernate.query.cache.requests" )
 						.tags( tags )
 						.tags( "result", "miss", "query", query )
 						.description( "Number of query cache misses" )
 						.register( meterRegistry );
 
-				FunctionCounter.builder(
-						"hibernate.query.cache.puts",
-						queryStatistics,
-						QueryStatistics::getCachePutCount
-				)
+				cachePuts = Counter.builder( "hibernate.query.cache.puts" )
 						.tags( tags )
 						.tags( "query", query )
 						.description( "Number of cache puts for a query" )
 						.register( meterRegistry );
 
-				FunctionTimer.builder(
-						"hibernate.query.execution.total",
-						queryStatistics,
-						QueryStatistics::getExecutionCount,
-						QueryStatistics::getExecutionTotalTime,
-						TimeUnit.MILLISECONDS
-				)
+				execution = Timer.builder( "hibernate.query.execution" )
 						.tags( tags )
 						.tags( "query", query )
 						.description( "Query executions" )
+						.publishPercentiles( PERCENTILES )
+						.publishPercentileHistogram()
 						.register( meterRegistry );
 
-				TimeGauge.builder(
-						"hibernate.query.execution.max",
-						queryStatistics,
-						TimeUnit.MILLISECONDS,
-						QueryStatistics::getExecutionMaxTime
-				)
-						.tags( tags )
-						.tags( "query", query )
-						.description( "Query maximum execution time" )
-						.register( meterRegistry );
-
-				TimeGauge.builder(
-						"hibernate.query.execution.min",
-						queryStatistics,
-						TimeUnit.MILLISECONDS,
-						QueryStatistics::getExecutionMinTime
-				)
-						.tags( tags )
-						.tags( "query", query )
-						.description( "Query minimum execution time" )
-						.register( meterRegistry );
-
-				FunctionCounter.builder(
-						"hibernate.query.execution.rows",
-						queryStatistics,
-						QueryStatistics::getExecutionRowCount
-				)
+				rows = Counter.builder( "hibernate.query.execution.rows" )
 						.tags( tags )
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
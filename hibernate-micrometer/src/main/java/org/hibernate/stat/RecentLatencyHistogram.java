@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.Clock;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latencies recorded by a cumulative {@link LatencyHistogram} over a sliding
+ * window, like the distribution statistics of Micrometer timers.
+ * <p>
+ * Snapshots of the histogram are taken every {@link #ROTATION_NANOS rotation}, and
+ * the recent latencies are those recorded since the oldest of the
+ * {@value #BUFFER_LENGTH} snapshots, so the window spans between two and three
+ * rotations, that is, up to two minutes.
+ */
+final class RecentLatencyHistogram {
+
+	private static final long ROTATION_NANOS = TimeUnit.SECONDS.toNanos( 40 );
+	private static final int BUFFER_LENGTH = 3;
+
+	private final LatencyHistogram histogram;
+	private final Clock clock;
+
+	private final LatencyHistogram[] snapshots = new LatencyHistogram[BUFFER_LENGTH];
+	private int oldest;
+	private long lastRotation;
+
+	RecentLatencyHistogram(LatencyHistogram histogram, Clock clock) {
+		this.histogram = histogram;
+		this.clock = clock;
+		Arrays.fill( snapshots, histogram.snapshot() );
+		this.lastRotation = clock.monotonicTime();
+	}
+
+	long getValueAtPercentile(double percentile, TimeUnit unit) {
+		return recent().getValueAtPercentile( percentile, unit );
+	}
+
+	private synchronized LatencyHistogram recent() {
+		final long elapsed = clock.monotonicTime() - lastRotation;
+		if ( elapsed >= ROTATION_NANOS ) {
+			final long rotations = elapsed / ROTATION_NANOS;
+			final LatencyHistogram snapshot = histogram.snapshot();
+			for ( int i = 0; i < Math.min( rotations, BUFFER_LENGTH ); i++ ) {
+				snapshots[oldest] = snapshot;
+				oldest = ( oldest + 1 ) % BUFFER_LENGTH;
+			}
+			lastRotation += rotations * ROTATION_NANOS;
+		}
+		return histogram.since( snapshots[oldest] );
+	}
+}
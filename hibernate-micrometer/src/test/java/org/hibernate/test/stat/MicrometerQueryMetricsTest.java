@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateQueryMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerQueryMetricsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private HibernateQueryMetrics metrics;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		metrics = new HibernateQueryMetrics( sessionFactory(), "something", Tags.empty(), 2 );
+		metrics.bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		metrics.close();
+		registry.clear();
+	}
+
+	@Test
+	public void testQueryMetrics() {
+		inTransaction( session -> {
+			session.createQuery( "select a from Account a where a.shortCode = 'first'" ).list();
+			session.createQuery( "select a from Account a where a.shortCode = 'second'" ).list();
+			session.createQuery( "select a from Account a where a.accountId.id in (1, 2, 3)" ).list();
+		} );
+
+		final Timer byShortCode = registry.get( "hibernate.query.execution" )
+				.tags( "query", "select a from Account a where a.shortCode = ?" )
+				.timer();
+		assertEquals( 2, byShortCode.count() );
+		assertTrue( byShortCode.takeSnapshot().percentileValues().length > 0 );
+
+		assertEquals(
+				1,
+				registry.get( "hibernate.query.execution" )
+						.tags( "query", "select a from Account a where a.accountId.id in (?)" )
+						.timer()
+						.count()
+		);
+		assertEquals(
+				0,
+				registry.get( "hibernate.query.execution.rows" )
+						.tags( "query", "select a from Account a where a.shortCode = ?" )
+						.counter()
+						.count(),
+				0
+		);
+	}
+
+	@Test
+	public void testQueryTagCardinalityBounded() {
+		inTransaction( session -> {
+			session.createQuery( "select a from Account a" ).list();
+			session.createQuery( "select a.shortCode from Account a" ).list();
+			session.createQuery( "select a.accountId from Account a" ).list();
+			session.createQuery( "select count(a) from Account a" ).list();
+		} );
+
+		assertEquals( 3, registry.get( "hibernate.query.execution" ).timers().size() );
+		assertEquals(
+				2,
+				registry.get( "hibernate.query.execution" )
+						.tags( "query", HibernateQueryMetrics.OTHER_QUERIES )
+						.timer()
+						.count()
+		);
+	}
+
+	@Test
+	public void testNoMetricsAfterClose() {
+		metrics.close();
+		inTransaction( session -> session.createQuery( "select a from Account a" ).list() );
+
+		assertTrue( registry.find( "hibernate.query.execution" ).timers().isEmpty() );
+	}
+}
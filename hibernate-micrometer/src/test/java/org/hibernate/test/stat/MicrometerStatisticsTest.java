@@ -75,6 +75,8 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.statements.cache").tags("result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.statements.cache").tags("result", "miss").functionCounter());
 
 		// Second level cache disabled
 		verifyMeterNotFoundException("hibernate.second.level.cache.requests");
@@ -55,6 +55,32 @@ public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 		}
 	}
 
+	/**
+	 * Replaces the spatial relations implying the intersection of the bounding boxes of their arguments with
+	 * {@link BoundingBoxPrefilteredFunction}s, rendering the bounding box test with the given SQL fragments.
+	 */
+	protected void addBoundingBoxPrefilter(
+			FunctionContributions functionContributions,
+			String boxPrefix,
+			String boxSeparator,
+			String boxSuffix) {
+		final BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+		for ( CommonSpatialFunction func : filter( CommonSpatialFunction.values() ) ) {
+			if ( BoundingBoxPrefilteredFunction.impliesBoundingBoxIntersection( func ) ) {
+				map.put(
+						func.getKey(),
+						new BoundingBoxPrefilteredFunction(
+								func.getKey().getName(),
+								boxPrefix,
+								boxSeparator,
+								boxSuffix,
+								basicTypeRegistry
+						)
+				);
+			}
+		}
+	}
+
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return functions;
 	}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial;
+
+import java.util.List;
+
+import org.hibernate.query.sqm.function.NamedSqmFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.query.sqm.sql.internal.SqmParameterInterpretation;
+import org.hibernate.query.sqm.sql.internal.SqmPathInterpretation;
+import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.Literal;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * A spatial relation function that is rendered together with a test of the intersection of the
+ * bounding boxes of its arguments, e.g. {@code (MBRIntersects(a, b) and st_within(a, b))}, so that
+ * databases which only use a spatial index for bounding box tests can use it for the relation.
+ * <p>
+ * Only relations which imply that the bounding boxes of the geometries intersect are prefiltered,
+ * and only when both arguments are column references, literals or parameters, since the arguments
+ * are rendered twice and any other expression would be evaluated twice. A parameter rendered twice
+ * is simply bound once for each occurrence.
+ *
+ * @see HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER
+ */
+public class BoundingBoxPrefilteredFunction extends NamedSqmFunctionDescriptor {
+
+	private final String boxPrefix;
+	private final String boxSeparator;
+	private final String boxSuffix;
+
+	/**
+	 * @param name the name of the spatial relation function
+	 * @param boxPrefix the SQL rendered before the first geometry of the bounding box test
+	 * @param boxSeparator the SQL rendered between the geometries of the bounding box test
+	 * @param boxSuffix the SQL rendered after the second geometry of the bounding box test
+	 */
+	public BoundingBoxPrefilteredFunction(
+			String name,
+			String boxPrefix,
+			String boxSeparator,
+			String boxSuffix,
+			BasicTypeRegistry typeRegistry) {
+		super(
+				name,
+				true,
+				StandardArgumentsValidators.exactly( 2 ),
+				StandardFunctionReturnTypeResolvers.invariant( typeRegistry.resolve( StandardBasicTypes.BOOLEAN ) )
+		);
+		this.boxPrefix = boxPrefix;
+		this.boxSeparator = boxSeparator;
+		this.boxSuffix = boxSuffix;
+	}
+
+	/**
+	 * Whether the given function is a relation which implies that the bounding boxes of its
+	 * arguments intersect.
+	 */
+	public static boolean impliesBoundingBoxIntersection(CommonSpatialFunction function) {
+		switch ( function ) {
+			case ST_INTERSECTS:
+			case ST_WITHIN:
+			case ST_CONTAINS:
+			case ST_EQUALS:
+			case ST_OVERLAPS:
+			case ST_TOUCHES:
+			case ST_CROSSES:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	@Override
+	public void render(
+			SqlAppender sqlAppender, List<? extends SqlAstNode> sqlAstArguments, SqlAstTranslator<?> walker) {
+		if ( !isColumnLiteralOrParameter( sqlAstArguments.get( 0 ) )
+				|| !isColumnLiteralOrParameter( sqlAstArguments.get( 1 ) ) ) {
+			super.render( sqlAppender, sqlAstArguments, walker );
+			return;
+		}
+		sqlAppender.appendSql( "(" );
+		sqlAppender.appendSql( boxPrefix );
+		walker.render( sqlAstArguments.get( 0 ), SqlAstNodeRenderingMode.DEFAULT );
+		sqlAppender.appendSql( boxSeparator );
+		walker.render( sqlAstArguments.get( 1 ), SqlAstNodeRenderingMode.DEFAULT );
+		sqlAppender.appendSql( boxSuffix );
+		sqlAppender.appendSql( " and " );
+		super.render( sqlAppender, sqlAstArguments, walker );
+		sqlAppender.appendSql( ")" );
+	}
+
+	private static boolean isColumnLiteralOrParameter(SqlAstNode argument) {
+		final SqlAstNode expression;
+		if ( argument instanceof SqmPathInterpretation<?> ) {
+			expression = ( (SqmPathInterpretation<?>) argument ).getSqlExpression();
+		}
+		else if ( argument instanceof SqmParameterInterpretation ) {
+			expression = ( (SqmParameterInterpretation) argument ).getResolvedExpression();
+		}
+		else {
+			expression = argument;
+		}
+		return expression instanceof ColumnReference
+				|| expression instanceof Literal
+				|| expression instanceof JdbcParameter;
+	}
+}
@@ -29,6 +29,15 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether the spatial relation functions, such as {@code st_intersects} and {@code st_within}, should be
+	 * rendered together with a test of the intersection of the bounding boxes of the geometries, which lets
+	 * the database use the spatial index.  Applies to MySQL, MariaDB and H2GIS.  Defaults to {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	public static final String BOUNDING_BOX_PREFILTER = "hibernate.spatial.bounding_box_prefilter";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -12,6 +12,13 @@ import org.hibernate.spatial.BaseSqmFunctionDescriptors;
 
 public class H2SqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public H2SqmFunctionDescriptors(FunctionContributions contributions) {
+		this( contributions, false );
+	}
+
+	public H2SqmFunctionDescriptors(FunctionContributions contributions, boolean boundingBoxPrefilter) {
 		super( contributions );
+		if ( boundingBoxPrefilter ) {
+			addBoundingBoxPrefilter( contributions, "", " && ", "" );
+		}
 	}
 }
@@ -9,9 +9,12 @@ package org.hibernate.spatial.dialect.mariadb;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.KeyedSqmFunctionDescriptors;
 import org.hibernate.spatial.contributor.ContributorImplementor;
 import org.hibernate.spatial.dialect.mysql.MySQLGeometryJdbcType;
@@ -32,7 +35,10 @@ public class MariaDBDialectContributor implements ContributorImplementor {
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.SPATIAL_MSG_LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors mariaDbFunctions = new MariaDBSqmFunctionDescriptors(
+				functionContributions,
+				isBoundingBoxPrefilterEnabled()
+		);
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		mariaDbFunctions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -41,6 +47,14 @@ public class MariaDBDialectContributor implements ContributorImplementor {
 	}
 
 
+	private boolean isBoundingBoxPrefilterEnabled() {
+		return getServiceRegistry().getService( ConfigurationService.class ).getSetting(
+				HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER,
+				StandardConverters.BOOLEAN,
+				false
+		);
+	}
+
 	@Override
 	public ServiceRegistry getServiceRegistry() {
 		return this.serviceRegistry;
@@ -15,7 +15,14 @@ import org.hibernate.spatial.CommonSpatialFunction;
 
 public class MariaDBSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public MariaDBSqmFunctionDescriptors(FunctionContributions functionContributions) {
+		this( functionContributions, false );
+	}
+
+	public MariaDBSqmFunctionDescriptors(FunctionContributions functionContributions, boolean boundingBoxPrefilter) {
 		super( functionContributions );
+		if ( boundingBoxPrefilter ) {
+			addBoundingBoxPrefilter( functionContributions, "MBRIntersects(", ", ", ")" );
+		}
 	}
 
 	@Override
@@ -23,7 +23,14 @@ public class MySqlSqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 			CommonSpatialFunction.ST_BOUNDARY, CommonSpatialFunction.ST_RELATE );
 
 	public MySqlSqmFunctionDescriptors(FunctionContributions functionContributions) {
+		this( functionContributions, false );
+	}
+
+	public MySqlSqmFunctionDescriptors(FunctionContributions functionContributions, boolean boundingBoxPrefilter) {
 		super( functionContributions );
+		if ( boundingBoxPrefilter ) {
+			addBoundingBoxPrefilter( functionContributions, "MBRIntersects(", ", ", ")" );
+		}
 	}
 
 	@Override
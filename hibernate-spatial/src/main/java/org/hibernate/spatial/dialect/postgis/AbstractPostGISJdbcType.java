@@ -7,11 +7,13 @@
 
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.spatial.GeometryLiteralFormatter;
@@ -33,6 +35,7 @@ import org.geolatte.geom.codec.WkbDecoder;
 import org.geolatte.geom.codec.WkbEncoder;
 import org.geolatte.geom.codec.Wkt;
 import org.geolatte.geom.codec.WktDecoder;
+import org.postgresql.util.PGBinaryObject;
 import org.postgresql.util.PGobject;
 
 /**
@@ -80,9 +83,40 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 			}
 
 		}
+		if ( object instanceof byte[] ) {
+			return toGeometry( (byte[]) object );
+		}
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	/**
+	 * Decodes the bytes of a geometry value, as returned by {@link ResultSet#getBytes(int)}.
+	 * These are the WKB of the geometry when the value is transferred in binary format,
+	 * and the characters of its hex-encoded WKB (or WKT) otherwise.
+	 */
+	public Geometry<?> toGeometry(byte[] bytes) {
+		if ( bytes == null || bytes.length == 0 ) {
+			return null;
+		}
+		if ( bytes[0] == 0 || bytes[0] == 1 ) {
+			//binary transfer, we have the WKB starting with the bit-order byte
+			return Wkb.newDecoder( wkbDialect ).decode( ByteBuffer.from( bytes ) );
+		}
+		if ( bytes[0] == '0' && bytes.length > 1 && ( bytes[1] == '0' || bytes[1] == '1' ) ) {
+			//we have a hex-encoded WKB, decode it without the intermediate String
+			return Wkb.newDecoder( wkbDialect ).decode( ByteBuffer.from( fromHex( bytes ) ) );
+		}
+		return parseWkt( new String( bytes, StandardCharsets.US_ASCII ) );
+	}
+
+	private static byte[] fromHex(byte[] hex) {
+		final byte[] bytes = new byte[hex.length / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( Character.digit( hex[2 * i], 16 ) << 4 ) | Character.digit( hex[2 * i + 1], 16 ) );
+		}
+		return bytes;
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -114,11 +148,8 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 			private PGobject toPGobject(X value, WrapperOptions options) throws SQLException {
 				final WkbEncoder encoder = Wkb.newEncoder( wkbDialect );
 				final Geometry<?> geometry = getJavaType().unwrap( value, Geometry.class, options );
-				final String hexString = encoder.encode( geometry, ByteOrder.NDR ).toString();
-				final PGobject obj = new PGobject();
-				obj.setType( getPGTypeName() );
-				obj.setValue( hexString );
-				return obj;
+				final ByteBuffer buffer = encoder.encode( geometry, ByteOrder.NDR );
+				return new PGWkbObject( getPGTypeName(), buffer == null ? null : buffer.toByteArray() );
 			}
 
 		};
@@ -131,7 +162,7 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return getJavaType().wrap( toGeometry( rs.getObject( paramIndex ) ), options );
+				return getJavaType().wrap( toGeometry( rs.getBytes( paramIndex ) ), options );
 			}
 
 			@Override
@@ -147,6 +178,50 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 		};
 	}
 
+	/**
+	 * A geometry value holding its WKB.  The driver sends the WKB as is when binary transfer
+	 * is enabled for the geometry type (through the {@code binaryTransferEnable} connection
+	 * property), and the hex-encoded WKB, computed on demand, otherwise.
+	 */
+	static class PGWkbObject extends PGobject implements PGBinaryObject {
+		private byte[] wkb;
+
+		PGWkbObject(String type, byte[] wkb) {
+			this.type = type;
+			this.wkb = wkb;
+		}
+
+		@Override
+		public String getValue() {
+			if ( value == null && wkb != null ) {
+				value = ByteBuffer.from( wkb ).toString();
+			}
+			return value;
+		}
+
+		@Override
+		public void setValue(String value) throws SQLException {
+			this.value = value;
+			this.wkb = value == null ? null : ByteBuffer.from( value ).toByteArray();
+		}
+
+		@Override
+		public void setByteValue(byte[] value, int offset) {
+			this.wkb = Arrays.copyOfRange( value, offset, value.length );
+			this.value = null;
+		}
+
+		@Override
+		public int lengthInBytes() {
+			return wkb == null ? 0 : wkb.length;
+		}
+
+		@Override
+		public void toBytes(byte[] bytes, int offset) {
+			System.arraycopy( wkb, 0, bytes, offset, wkb.length );
+		}
+	}
+
 	static class PGGeometryLiteralFormatter<T> extends GeometryLiteralFormatter<T> {
 
 		private final String constructorFunction;
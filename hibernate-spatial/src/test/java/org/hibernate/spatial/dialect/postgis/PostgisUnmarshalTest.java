@@ -6,6 +6,7 @@
  */
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 import org.junit.Test;
@@ -23,6 +24,7 @@ import org.postgresql.util.PGobject;
 import static org.geolatte.geom.builder.DSL.c;
 import static org.geolatte.geom.builder.DSL.g;
 import static org.geolatte.geom.builder.DSL.linestring;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -66,11 +68,33 @@ public class PostgisUnmarshalTest {
 	}
 
 
+	@Test
+	public void testBinaryWkb() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		assertEquals( geom, PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testWkbObject() throws SQLException {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		AbstractPostGISJdbcType.PGWkbObject pgo = new AbstractPostGISJdbcType.PGWkbObject( "geometry", wkb );
+		assertEquals( "geometry", pgo.getType() );
+		assertEquals( Wkb.toWkb( geom, ByteOrder.NDR ).toString(), pgo.getValue() );
+
+		byte[] sent = new byte[pgo.lengthInBytes()];
+		pgo.toBytes( sent, 0 );
+		assertArrayEquals( wkb, sent );
+		assertEquals( geom, PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgo ) );
+	}
+
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
 		pgo.setValue( pgValue );
 		Geometry<?> received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgo );
 		assertEquals( String.format( "Failure on %s", pgValue ), expected, received );
+		// the characters of the value, as read in text format with ResultSet#getBytes
+		received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgValue.getBytes( StandardCharsets.US_ASCII ) );
+		assertEquals( String.format( "Failure on bytes of %s", pgValue ), expected, received );
 	}
 
 
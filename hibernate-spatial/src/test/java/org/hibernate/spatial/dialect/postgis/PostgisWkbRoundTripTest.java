@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.dialect.postgis;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.spatial.GeolatteGeometryJavaType;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.junit.Test;
+
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.G2DM;
+import org.geolatte.geom.G3D;
+import org.geolatte.geom.G3DM;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+import org.geolatte.geom.crs.LinearUnit;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.builder.DSL.gM;
+import static org.geolatte.geom.builder.DSL.linestring;
+import static org.geolatte.geom.builder.DSL.point;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that geometries bound and extracted by {@link PGGeometryJdbcType} keep their SRID,
+ * and their Z and M coordinates, whether the driver transfers them in binary or in text format.
+ */
+public class PostgisWkbRoundTripTest {
+
+	private static final CoordinateReferenceSystem<G3D> WGS84_Z = CoordinateReferenceSystems.addVerticalSystem(
+			CoordinateReferenceSystems.WGS84,
+			G3D.class,
+			LinearUnit.METER
+	);
+	private static final CoordinateReferenceSystem<G2DM> WGS84_M = CoordinateReferenceSystems.addLinearSystem(
+			CoordinateReferenceSystems.WGS84,
+			G2DM.class,
+			LinearUnit.METER
+	);
+	private static final CoordinateReferenceSystem<G3DM> WGS84_ZM = CoordinateReferenceSystems.addLinearSystem(
+			WGS84_Z,
+			G3DM.class,
+			LinearUnit.METER
+	);
+
+	@Test
+	public void test2D() throws SQLException {
+		testCase( point( CoordinateReferenceSystems.WGS84, g( 6.123, 53.234 ) ) );
+	}
+
+	@Test
+	public void testZ() throws SQLException {
+		testCase( linestring( WGS84_Z, g( 6.123, 53.234, 12.5 ), g( 6.133, 53.244, -3.0 ) ) );
+	}
+
+	@Test
+	public void testM() throws SQLException {
+		testCase( linestring( WGS84_M, gM( 6.123, 53.234, 1.0 ), gM( 6.133, 53.244, 2.0 ) ) );
+	}
+
+	@Test
+	public void testZM() throws SQLException {
+		testCase( linestring( WGS84_ZM, g( 6.123, 53.234, 12.5, 1.0 ), g( 6.133, 53.244, -3.0, 2.0 ) ) );
+	}
+
+	private void testCase(Geometry<?> geometry) throws SQLException {
+		assertEquals( 4326, geometry.getSRID() );
+		final PGobject bound = bind( geometry );
+		assertTrue( bound instanceof PGBinaryObject );
+
+		// binary transfer: the driver sends the bytes of the PGBinaryObject, and reads back the WKB
+		final PGBinaryObject binary = (PGBinaryObject) bound;
+		final byte[] wkb = new byte[binary.lengthInBytes()];
+		binary.toBytes( wkb, 0 );
+		assertArrayEquals( Wkb.toWkb( geometry, ByteOrder.NDR ).toByteArray(), wkb );
+		assertRoundTrip( geometry, wkb );
+
+		// text transfer: the driver sends the hex-encoded WKB, and reads back its characters
+		assertRoundTrip( geometry, bound.getValue().getBytes( StandardCharsets.US_ASCII ) );
+	}
+
+	private static PGobject bind(Geometry<?> geometry) throws SQLException {
+		final PreparedStatement statement = mock( PreparedStatement.class );
+		PGGeometryJdbcType.INSTANCE_WKB_2.getBinder( GeolatteGeometryJavaType.GEOMETRY_INSTANCE )
+				.bind( statement, geometry, 1, mock( WrapperOptions.class ) );
+		final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass( Object.class );
+		verify( statement ).setObject( eq( 1 ), captor.capture() );
+		return (PGobject) captor.getValue();
+	}
+
+	private static void assertRoundTrip(Geometry<?> expected, byte[] received) throws SQLException {
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getBytes( anyInt() ) ).thenReturn( received );
+		final Geometry<?> extracted = PGGeometryJdbcType.INSTANCE_WKB_2
+				.getExtractor( GeolatteGeometryJavaType.GEOMETRY_INSTANCE )
+				.extract( resultSet, 1, mock( WrapperOptions.class ) );
+		assertEquals( expected, extracted );
+		assertEquals( expected.getSRID(), extracted.getSRID() );
+		assertEquals( expected.getPositionClass(), extracted.getPositionClass() );
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.integration.functions;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.testing.SpatialTestBase;
+import org.hibernate.spatial.testing.datareader.TestSupport;
+import org.hibernate.spatial.testing.domain.GeomEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the rendering of the spatial relations with a bounding box prefilter.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class BoundingBoxPrefilterTest extends SpatialTestBase {
+
+	@Override
+	public TestSupport.TestDataPurpose purpose() {
+		return TestSupport.TestDataPurpose.SpatialFunctionsData;
+	}
+
+	@Test
+	public void testIntersectsWithPrefilter() {
+		scope.inTransaction( session -> {
+			final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+			inspector.clear();
+			final List<GeomEntity> results = session.createQuery(
+					"select g from GeomEntity g, GeomEntity h where st_intersects(g.geom, h.geom) = true",
+					GeomEntity.class
+			).getResultList();
+			assertFalse( results.isEmpty() );
+
+			final String sql = inspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+			assertTrue( sql.contains( " && " ), sql );
+			assertTrue( sql.contains( "st_intersects(" ), sql );
+		} );
+	}
+
+	@Test
+	public void testIntersectsParameterWithPrefilter() {
+		scope.inTransaction( session -> {
+			final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+			inspector.clear();
+			final List<GeomEntity> results = session.createQuery(
+					"select g from GeomEntity g where st_intersects(g.geom, :poly) = true",
+					GeomEntity.class
+			).setParameter( "poly", filterGeometry ).getResultList();
+			assertFalse( results.isEmpty() );
+
+			// the parameter is rendered, and bound, once in each test
+			final String sql = inspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+			assertTrue( sql.contains( " && " ), sql );
+			assertEquals( 2, inspector.getSqlQueries().get( 0 ).chars().filter( c -> c == '?' ).count(), sql );
+		} );
+	}
+
+	@Test
+	public void testDisjointWithoutPrefilter() {
+		scope.inTransaction( session -> {
+			final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+			inspector.clear();
+			session.createQuery(
+					"select g from GeomEntity g where st_disjoint(g.geom, :poly) = true",
+					GeomEntity.class
+			).setParameter( "poly", filterGeometry ).getResultList();
+
+			final String sql = inspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+			assertFalse( sql.contains( " && " ), sql );
+		} );
+	}
+}
@@ -18,6 +18,7 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -38,12 +39,16 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.cfg.Environment;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 /**
  * This plugin will enhance Entity objects.
+ * <p>
+ * Optionally, it also generates the lazy-loading proxy classes of the entities, which
+ * Hibernate then uses instead of generating them at runtime.
  *
  * @author Jeremy Whiting
  * @author Luis Barreiro
@@ -80,7 +85,14 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enableProxyGeneration", defaultValue = "false")
+	private boolean enableProxyGeneration;
+
 	private boolean shouldApply() {
+		return shouldEnhance() || enableProxyGeneration;
+	}
+
+	private boolean shouldEnhance() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
@@ -111,65 +123,113 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		log.info( "Starting Hibernate enhancement for classes on " + dir );
 		final ClassLoader classLoader = toClassLoader( Collections.singletonList( new File( base ) ) );
 
-		EnhancementContext enhancementContext = new DefaultEnhancementContext() {
-			@Override
-			public ClassLoader getLoadingClassLoader() {
-				return classLoader;
-			}
+		final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
 
-			@Override
-			public boolean doBiDirectionalAssociationManagement(UnloadedField field) {
-				return enableAssociationManagement;
-			}
+		// the classes are left untouched when only proxy generation is enabled
+		if ( shouldEnhance() ) {
+			EnhancementContext enhancementContext = new DefaultEnhancementContext() {
+				@Override
+				public ClassLoader getLoadingClassLoader() {
+					return classLoader;
+				}
 
-			@Override
-			public boolean doDirtyCheckingInline(UnloadedClass classDescriptor) {
-				return enableDirtyTracking;
-			}
+				@Override
+				public boolean doBiDirectionalAssociationManagement(UnloadedField field) {
+					return enableAssociationManagement;
+				}
 
-			@Override
-			public boolean hasLazyLoadableAttributes(UnloadedClass classDescriptor) {
-				return enableLazyInitialization;
-			}
+				@Override
+				public boolean doDirtyCheckingInline(UnloadedClass classDescriptor) {
+					return enableDirtyTracking;
+				}
 
-			@Override
-			public boolean isLazyLoadable(UnloadedField field) {
-				return enableLazyInitialization;
-			}
+				@Override
+				public boolean hasLazyLoadableAttributes(UnloadedClass classDescriptor) {
+					return enableLazyInitialization;
+				}
+
+				@Override
+				public boolean isLazyLoadable(UnloadedField field) {
+					return enableLazyInitialization;
+				}
 
-			@Override
-			public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
-				return enableExtendedEnhancement;
+				@Override
+				public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
+					return enableExtendedEnhancement;
+				}
+			};
+
+			if ( !enableLazyInitialization ) {
+				log.warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( !enableDirtyTracking ) {
+				log.warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( enableExtendedEnhancement ) {
+				log.warn( "Extended enhancement is enabled. Classes other than entities may be modified. You should consider access the entities using getter/setter methods and disable this property. Use at your own risk." );
 			}
-		};
 
-		if ( !enableLazyInitialization ) {
-			log.warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
-		}
-		if ( !enableDirtyTracking ) {
-			log.warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
-		}
-		if ( enableExtendedEnhancement ) {
-			log.warn( "Extended enhancement is enabled. Classes other than entities may be modified. You should consider access the entities using getter/setter methods and disable this property. Use at your own risk." );
-		}
+			final Enhancer enhancer = bytecodeProvider.getEnhancer( enhancementContext );
 
-		final Enhancer enhancer = Environment.getBytecodeProvider().getEnhancer( enhancementContext );
+			for ( File file : sourceSet ) {
 
-		for ( File file : sourceSet ) {
+				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-			final byte[] enhancedBytecode = doEnhancement( file, enhancer );
+				if ( enhancedBytecode == null ) {
+					continue;
+				}
 
-			if ( enhancedBytecode == null ) {
-				continue;
+				writeOutEnhancedClass( enhancedBytecode, file );
+				if ( log.isDebugEnabled() ) {
+					log.debug( "Successfully enhanced class [" + file + "]" );
+				}
 			}
+		}
 
-			writeOutEnhancedClass( enhancedBytecode, file );
-			if ( log.isDebugEnabled() ) {
-				log.debug( "Successfully enhanced class [" + file + "]" );
+		if ( enableProxyGeneration ) {
+			// done once all classes are enhanced, as proxies need to see the enhanced methods of the whole hierarchy
+			log.info( "Starting Hibernate proxy generation for classes on " + dir );
+			for ( File file : sourceSet ) {
+				generateProxyClasses( file, bytecodeProvider, classLoader );
 			}
 		}
 	}
 
+	private void generateProxyClasses(File javaClassFile, BytecodeProvider bytecodeProvider, ClassLoader classLoader)
+			throws MojoExecutionException {
+		final String className = determineClassName( javaClassFile );
+		final Map<String, byte[]> proxyClasses;
+		try {
+			proxyClasses = bytecodeProvider.generateBuildTimeProxyClasses( className, classLoader );
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate proxy for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		for ( Map.Entry<String, byte[]> proxyClass : proxyClasses.entrySet() ) {
+			final File proxyClassFile = new File(
+					base,
+					proxyClass.getKey().replace( '.', File.separatorChar ) + ".class"
+			);
+			writeOutGeneratedClass( proxyClass.getValue(), proxyClassFile );
+			if ( getLog().isDebugEnabled() ) {
+				getLog().debug( "Successfully generated proxy class [" + proxyClassFile + "]" );
+			}
+		}
+	}
+
+	private String determineClassName(File javaClassFile) {
+		return javaClassFile.getAbsolutePath().substring(
+				base.length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
+	}
+
 	private ClassLoader toClassLoader(List<File> runtimeClasspath) throws MojoExecutionException {
 		List<URL> urls = new ArrayList<URL>( runtimeClasspath.size() );
 		final Log log = getLog();
@@ -215,10 +275,7 @@ public class MavenEnhancePlugin extends AbstractMojo {
 
 	private byte[] doEnhancement(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
-			String className = javaClassFile.getAbsolutePath().substring(
-					base.length() + 1,
-					javaClassFile.getAbsolutePath().length() - ".class".length()
-			).replace( File.separatorChar, '.' );
+			String className = determineClassName( javaClassFile );
 			ByteArrayOutputStream originalBytes = new ByteArrayOutputStream();
 			FileInputStream fileInputStream = new FileInputStream( javaClassFile );
 			try {
@@ -288,14 +345,18 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			buildContext.addMessage( file, 0, 0, "Problem preparing class file for writing out enhancements", BuildContext.SEVERITY_WARNING, e );
 		}
 
+		writeOutGeneratedClass( enhancedBytecode, file );
+	}
+
+	private void writeOutGeneratedClass(byte[] bytecode, File file) throws MojoExecutionException {
 		OutputStream outputStream = null;
 		try {
 			outputStream = buildContext.newFileOutputStream( file );
-			outputStream.write( enhancedBytecode );
+			outputStream.write( bytecode );
 			outputStream.flush();
 		}
 		catch (IOException e) {
-			String msg = String.format( "Error writing to enhanced class [%s] to file [%s]", file.getName(), file.getAbsolutePath() );
+			String msg = String.format( "Error writing class [%s] to file [%s]", file.getName(), file.getAbsolutePath() );
 			if ( failOnError ) {
 				throw new MojoExecutionException( msg, e );
 			}
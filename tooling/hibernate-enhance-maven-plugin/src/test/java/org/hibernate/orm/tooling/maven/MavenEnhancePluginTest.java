@@ -9,6 +9,7 @@ package org.hibernate.orm.tooling.maven;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.util.ReflectionUtils;
 import org.hibernate.engine.spi.Managed;
+import org.hibernate.proxy.HibernateProxy;
 import org.junit.Assert;
 import org.junit.Test;
 import org.sonatype.plexus.build.incremental.DefaultBuildContext;
@@ -48,6 +49,7 @@ public class MavenEnhancePluginTest {
         setVariableValueToObject( plugin, "enableDirtyTracking", true );
         setVariableValueToObject( plugin, "enableAssociationManagement", true );
         setVariableValueToObject( plugin, "enableExtendedEnhancement", false );
+        setVariableValueToObject( plugin, "enableProxyGeneration", true );
 
         plugin.execute();
 
@@ -57,6 +59,10 @@ public class MavenEnhancePluginTest {
             Assert.assertTrue( declaresManaged( classLoader.loadClass( ChildEntity.class.getName() ) ) );
             Assert.assertTrue( declaresManaged( classLoader.loadClass( TestEntity.class.getName() ) ) );
 
+            Class<?> proxyClass = classLoader.loadClass( TestEntity.class.getName() + "$HibernateProxy" );
+            Assert.assertEquals( TestEntity.class.getName(), proxyClass.getSuperclass().getName() );
+            Assert.assertTrue( HibernateProxy.class.isAssignableFrom( proxyClass ) );
+
         }
 
     }
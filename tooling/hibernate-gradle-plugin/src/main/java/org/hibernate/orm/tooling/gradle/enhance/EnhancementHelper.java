@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -22,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.cfg.Environment;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
 
@@ -40,15 +42,67 @@ public class EnhancementHelper {
 		final File classesDir = classesDirectory.getAsFile();
 
 		final EnhancementSpec enhancementDsl = ormDsl.getEnhancement();
-		if ( !enhancementDsl.getEnableLazyInitialization().get() ) {
-			project.getLogger().warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+		if ( !enhancementDsl.hasAnythingToDo() ) {
+			project.getLogger().warn( "Skipping Hibernate bytecode enhancement since no feature is enabled" );
+			return;
 		}
-		if ( !enhancementDsl.getEnableDirtyTracking().get() ) {
-			project.getLogger().warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+
+		// the classes are left untouched when only proxy generation is enabled
+		if ( enhancementDsl.hasEnhancementToDo() ) {
+			if ( !enhancementDsl.getEnableLazyInitialization().get() ) {
+				project.getLogger().warn( "The 'enableLazyInitialization' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			if ( !enhancementDsl.getEnableDirtyTracking().get() ) {
+				project.getLogger().warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
+			}
+			final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
+
+			walk( classesDir, classesDir, enhancer, project );
+		}
+
+		if ( enhancementDsl.getEnableProxyGeneration().get() ) {
+			// done once all classes are enhanced, as proxies need to see the enhanced methods of the whole hierarchy
+			//noinspection deprecation
+			final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
+			generateProxies( classesDir, classesDir, bytecodeProvider, classLoader, project );
 		}
-		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
+	}
+
+	private static void generateProxies(
+			File classesDir,
+			File dir,
+			BytecodeProvider bytecodeProvider,
+			ClassLoader classLoader,
+			Project project) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateProxies( classesDir, subLocation, bytecodeProvider, classLoader, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				final Map<String, byte[]> proxyClasses;
+				try {
+					proxyClasses = bytecodeProvider.generateBuildTimeProxyClasses( className, classLoader );
+				}
+				catch (Exception e) {
+					throw new GradleException( "Unable to generate proxy for class : " + className, e );
+				}
 
-		walk( classesDir, classesDir, enhancer, project );
+				for ( Map.Entry<String, byte[]> proxyClass : proxyClasses.entrySet() ) {
+					final File proxyClassFile = new File(
+							classesDir,
+							proxyClass.getKey().replace( '.', File.separatorChar ) + ".class"
+					);
+					try {
+						Files.write( proxyClassFile.toPath(), proxyClass.getValue() );
+					}
+					catch (IOException e) {
+						throw new GradleException( "Error writing proxy class to file [" + proxyClassFile.getAbsolutePath() + "]", e );
+					}
+					project.getLogger().info( "Successfully generated proxy class : " + proxyClass.getKey() );
+				}
+			}
+		}
 	}
 
 	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -28,7 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
-
+	private final Property<Boolean> enableProxyGeneration;
 
 	@Inject
 	public EnhancementSpec(HibernateOrmSpec ormDsl, Project project) {
@@ -38,9 +38,18 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project );
 		enableExtendedEnhancement = makeProperty( project );
+		enableProxyGeneration = makeProperty( project );
 	}
 
 	public boolean hasAnythingToDo() {
+		return hasEnhancementToDo()
+				|| enableProxyGeneration.get();
+	}
+
+	/**
+	 * Whether any enhancement feature is enabled, as opposed to only {@linkplain #getEnableProxyGeneration() proxy generation}
+	 */
+	public boolean hasEnhancementToDo() {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
@@ -132,6 +141,27 @@ public class EnhancementSpec {
 		setEnableExtendedEnhancement( enable );
 	}
 
+
+	/**
+	 * Whether to also generate the lazy-loading proxy classes of the entities, which
+	 * Hibernate then uses instead of generating them at runtime.
+	 */
+	public Property<Boolean> getEnableProxyGeneration() {
+		return enableProxyGeneration;
+	}
+
+	public void setEnableProxyGeneration(boolean enable) {
+		enableProxyGeneration.set( enable );
+	}
+
+	public void enableProxyGeneration(boolean enable) {
+		setEnableProxyGeneration( enable );
+	}
+
+	public void proxyGeneration(boolean enable) {
+		setEnableProxyGeneration( enable );
+	}
+
 	@SuppressWarnings( "UnstableApiUsage" )
 	public static Property<Boolean> makeProperty(Project project) {
 		final Property<Boolean> createdProperty = project.getObjects().property( Boolean.class );
@@ -60,6 +60,7 @@ public final class Context {
 	private boolean addGeneratedAnnotation = true;
 	private boolean addGenerationDate;
 	private boolean addSuppressWarningsAnnotation;
+	private boolean checkHql = true;
 	private AccessType persistenceUnitDefaultAccessType;
 
 	// keep track of all classes for which model have been generated
@@ -141,6 +142,14 @@ public final class Context {
 		this.addSuppressWarningsAnnotation = addSuppressWarningsAnnotation;
 	}
 
+	public boolean isCheckHql() {
+		return checkHql;
+	}
+
+	public void setCheckHql(boolean checkHql) {
+		this.checkHql = checkHql;
+	}
+
 	public Elements getElementUtils() {
 		return pe.getElementUtils();
 	}
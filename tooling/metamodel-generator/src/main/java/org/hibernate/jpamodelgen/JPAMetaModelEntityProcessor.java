@@ -18,6 +18,7 @@ import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
@@ -32,6 +33,7 @@ import javax.tools.Diagnostic;
 import org.hibernate.jpamodelgen.annotation.AnnotationMetaEntity;
 import org.hibernate.jpamodelgen.model.MetaEntity;
 import org.hibernate.jpamodelgen.util.Constants;
+import org.hibernate.jpamodelgen.util.HqlSyntaxChecker;
 import org.hibernate.jpamodelgen.util.StringUtil;
 import org.hibernate.jpamodelgen.util.TypeUtils;
 import org.hibernate.jpamodelgen.xml.JpaDescriptorParser;
@@ -54,7 +56,8 @@ import org.hibernate.jpamodelgen.xml.JpaDescriptorParser;
 		JPAMetaModelEntityProcessor.LAZY_XML_PARSING,
 		JPAMetaModelEntityProcessor.ADD_GENERATION_DATE,
 		JPAMetaModelEntityProcessor.ADD_GENERATED_ANNOTATION,
-		JPAMetaModelEntityProcessor.ADD_SUPPRESS_WARNINGS_ANNOTATION
+		JPAMetaModelEntityProcessor.ADD_SUPPRESS_WARNINGS_ANNOTATION,
+		JPAMetaModelEntityProcessor.CHECK_HQL
 })
 public class JPAMetaModelEntityProcessor extends AbstractProcessor {
 	public static final String DEBUG_OPTION = "debug";
@@ -65,6 +68,7 @@ public class JPAMetaModelEntityProcessor extends AbstractProcessor {
 	public static final String ADD_GENERATION_DATE = "addGenerationDate";
 	public static final String ADD_GENERATED_ANNOTATION = "addGeneratedAnnotation";
 	public static final String ADD_SUPPRESS_WARNINGS_ANNOTATION = "addSuppressWarningsAnnotation";
+	public static final String CHECK_HQL = "checkHql";
 
 	private static final Boolean ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS = Boolean.FALSE;
 
@@ -92,6 +96,19 @@ public class JPAMetaModelEntityProcessor extends AbstractProcessor {
 		boolean addSuppressWarningsAnnotation = Boolean.parseBoolean( tmp );
 		context.setAddSuppressWarningsAnnotation( addSuppressWarningsAnnotation );
 
+		tmp = env.getOptions().get( JPAMetaModelEntityProcessor.CHECK_HQL );
+		if ( tmp != null ) {
+			boolean checkHql = Boolean.parseBoolean( tmp );
+			context.setCheckHql( checkHql );
+		}
+		if ( context.isCheckHql() && !isHqlGrammarAvailable() ) {
+			context.logMessage(
+					Diagnostic.Kind.OTHER,
+					"Skipping the syntax check of named HQL queries since Hibernate ORM 6.2 or later is not on the processor path."
+			);
+			context.setCheckHql( false );
+		}
+
 		tmp = env.getOptions().get( JPAMetaModelEntityProcessor.FULLY_ANNOTATION_CONFIGURED_OPTION );
 		boolean fullyAnnotationConfigured = Boolean.parseBoolean( tmp );
 
@@ -129,6 +146,9 @@ public class JPAMetaModelEntityProcessor extends AbstractProcessor {
 			if ( isJPAEntity( element ) ) {
 				context.logMessage( Diagnostic.Kind.OTHER, "Processing annotated class " + element.toString() );
 				handleRootElementAnnotationMirrors( element );
+				if ( context.isCheckHql() ) {
+					checkNamedQueries( element );
+				}
 			}
 		}
 
@@ -249,6 +269,56 @@ public class JPAMetaModelEntityProcessor extends AbstractProcessor {
 		}
 	}
 
+	private static boolean isHqlGrammarAvailable() {
+		try {
+			final ClassLoader classLoader = JPAMetaModelEntityProcessor.class.getClassLoader();
+			// new in Hibernate ORM 6.2, older versions have the grammar but not the shared parser
+			Class.forName( "org.hibernate.query.hql.spi.HqlStatementParser", false, classLoader );
+			Class.forName( "org.antlr.v4.runtime.Parser", false, classLoader );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Check the syntax of the named HQL queries declared by the given element, so that
+	 * a malformed query is reported when compiling rather than when booting.
+	 */
+	private void checkNamedQueries(Element element) {
+		for ( AnnotationMirror mirror : element.getAnnotationMirrors() ) {
+			if ( TypeUtils.isAnnotationMirrorOfType( mirror, Constants.NAMED_QUERY )
+					|| TypeUtils.isAnnotationMirrorOfType( mirror, Constants.HIBERNATE_NAMED_QUERY ) ) {
+				checkNamedQuery( element, mirror );
+			}
+			else if ( TypeUtils.isAnnotationMirrorOfType( mirror, Constants.NAMED_QUERIES )
+					|| TypeUtils.isAnnotationMirrorOfType( mirror, Constants.HIBERNATE_NAMED_QUERIES ) ) {
+				final Object value = TypeUtils.getAnnotationValue( mirror, TypeUtils.DEFAULT_ANNOTATION_PARAMETER_NAME );
+				if ( value instanceof List ) {
+					for ( Object namedQuery : (List<?>) value ) {
+						checkNamedQuery( element, (AnnotationMirror) ( (AnnotationValue) namedQuery ).getValue() );
+					}
+				}
+			}
+		}
+	}
+
+	private void checkNamedQuery(Element element, AnnotationMirror mirror) {
+		final Object query = TypeUtils.getAnnotationValue( mirror, "query" );
+		if ( query instanceof String ) {
+			final String error = HqlSyntaxChecker.checkSyntax( (String) query );
+			if ( error != null ) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						"Syntax error in named query '" + TypeUtils.getAnnotationValue( mirror, "name" ) + "': " + error,
+						element,
+						mirror
+				);
+			}
+		}
+	}
+
 	private MetaEntity tryGettingExistingEntityFromContext(AnnotationMirror mirror, String fqn) {
 		MetaEntity alreadyExistingMetaEntity = null;
 		if ( TypeUtils.isAnnotationMirrorOfType( mirror, Constants.ENTITY )
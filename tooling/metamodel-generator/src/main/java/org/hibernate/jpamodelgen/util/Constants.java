@@ -31,6 +31,10 @@ public final class Constants {
 	public static final String MAP_ATTRIBUTE = "jakarta.persistence.metamodel.MapAttribute";
 	public static final String CONVERT = "jakarta.persistence.Convert";
 	public static final String HIBERNATE_TYPE = "org.hibernate.annotations.Type";
+	public static final String NAMED_QUERY = "jakarta.persistence.NamedQuery";
+	public static final String NAMED_QUERIES = "jakarta.persistence.NamedQueries";
+	public static final String HIBERNATE_NAMED_QUERY = "org.hibernate.annotations.NamedQuery";
+	public static final String HIBERNATE_NAMED_QUERIES = "org.hibernate.annotations.NamedQueries";
 
 	public static final Map<String, String> COLLECTIONS = allCollectionTypes();
 
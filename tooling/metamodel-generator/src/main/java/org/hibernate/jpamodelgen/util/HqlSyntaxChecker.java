@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpamodelgen.util;
+
+import org.hibernate.query.hql.spi.HqlStatementParser;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+/**
+ * Checks the syntax of HQL queries using the HQL grammar of Hibernate ORM. Must
+ * only be used if Hibernate ORM is on the annotation processor path.
+ * <p>
+ * Only the syntax is checked, since the semantics of a query depend on the mapping
+ * model, which is not available when compiling.  The queries are still parsed and
+ * interpreted by Hibernate ORM at runtime.
+ */
+public final class HqlSyntaxChecker {
+	private HqlSyntaxChecker() {
+	}
+
+	/**
+	 * Check the syntax of the given HQL query.
+	 *
+	 * @return The description of the first syntax error, or {@code null} if the query is well-formed
+	 */
+	public static String checkSyntax(String hql) {
+		final ErrorCollector errorCollector = new ErrorCollector();
+		HqlStatementParser.parse( hql, errorCollector );
+		return errorCollector.error;
+	}
+
+	private static class ErrorCollector extends BaseErrorListener {
+		private String error;
+
+		@Override
+		public void syntaxError(
+				Recognizer<?, ?> recognizer,
+				Object offendingSymbol,
+				int line,
+				int charPositionInLine,
+				String msg,
+				RecognitionException e) {
+			if ( error == null ) {
+				error = "line " + line + ":" + charPositionInLine + " " + msg;
+			}
+		}
+	}
+}
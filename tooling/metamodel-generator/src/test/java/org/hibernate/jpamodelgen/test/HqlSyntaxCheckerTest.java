@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpamodelgen.test;
+
+import org.hibernate.jpamodelgen.util.HqlSyntaxChecker;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HqlSyntaxCheckerTest {
+	@Test
+	public void testWellFormedQueries() {
+		assertNull( HqlSyntaxChecker.checkSyntax( "select b from Book b where b.id = :id" ) );
+		assertNull( HqlSyntaxChecker.checkSyntax( "from Book order by title desc nulls last" ) );
+		assertNull( HqlSyntaxChecker.checkSyntax( "update Book set title = upper(title) where id in :ids" ) );
+		assertNull( HqlSyntaxChecker.checkSyntax( "delete from Book where title like 'x%'" ) );
+	}
+
+	@Test
+	public void testQueryRequiringFullContextPrediction() {
+		// SLL(k)-based parsing fails for this query, which must not be reported as an error
+		assertNull( HqlSyntaxChecker.checkSyntax( "select b from Book b where not(b.id) = :id" ) );
+	}
+
+	@Test
+	public void testMalformedQueries() {
+		final String error = HqlSyntaxChecker.checkSyntax( "select b fro Book b" );
+		assertNotNull( error );
+		assertTrue( error.startsWith( "line 1:13" ) );
+
+		assertNotNull( HqlSyntaxChecker.checkSyntax( "from Book b order by" ) );
+		assertNotNull( HqlSyntaxChecker.checkSyntax( "select b from Book b where b.title = 'unterminated" ) );
+	}
+}
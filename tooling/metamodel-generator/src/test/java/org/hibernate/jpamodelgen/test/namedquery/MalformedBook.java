@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpamodelgen.test.namedquery;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+
+@Entity
+@NamedQueries({
+		@NamedQuery(name = "MalformedBook.byTitle", query = "fro Book where title = :title"),
+		@NamedQuery(name = "MalformedBook.titles", query = "select b.title from Book b order by b.title")
+})
+@org.hibernate.annotations.NamedQuery(name = "MalformedBook.rename", query = "update Book set title = :title where id = :id")
+public class MalformedBook {
+	@Id
+	private long id;
+	private String title;
+}
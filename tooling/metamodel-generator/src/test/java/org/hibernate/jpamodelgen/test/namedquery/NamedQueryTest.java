@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpamodelgen.test.namedquery;
+
+import org.hibernate.jpamodelgen.JPAMetaModelEntityProcessor;
+import org.hibernate.jpamodelgen.test.util.CompilationTest;
+import org.hibernate.jpamodelgen.test.util.WithClasses;
+import org.hibernate.jpamodelgen.test.util.WithProcessorOption;
+import org.junit.Test;
+
+import static org.hibernate.jpamodelgen.test.util.TestUtil.assertMetamodelClassGeneratedFor;
+
+/**
+ * Well-formed named HQL queries pass the syntax check, which would otherwise fail the compilation.
+ */
+public class NamedQueryTest extends CompilationTest {
+	@Test
+	@WithClasses(Book.class)
+	public void testWellFormedNamedQueries() {
+		assertMetamodelClassGeneratedFor( Book.class );
+	}
+
+	@Test
+	@WithClasses(MalformedBook.class)
+	@WithProcessorOption(key = JPAMetaModelEntityProcessor.CHECK_HQL, value = "false")
+	public void testSyntaxCheckDisabled() {
+		assertMetamodelClassGeneratedFor( MalformedBook.class );
+	}
+}